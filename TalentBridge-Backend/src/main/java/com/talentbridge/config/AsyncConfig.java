@@ -0,0 +1,134 @@
+package com.talentbridge.config;
+
+import com.talentbridge.matching.SkillScoreKernel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    @Value("${match.executor.core-size:2}")
+    private int coreSize;
+
+    @Value("${match.executor.max-size:4}")
+    private int maxSize;
+
+    @Value("${match.executor.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${web.async.core-size:4}")
+    private int webAsyncCoreSize;
+
+    @Value("${web.async.max-size:16}")
+    private int webAsyncMaxSize;
+
+    @Value("${web.async.queue-capacity:50}")
+    private int webAsyncQueueCapacity;
+
+    @Value("${web.async.timeout-ms:300000}")
+    private long webAsyncTimeoutMs;
+
+    @Value("${match.progress.sender-threads:2}")
+    private int progressSenderThreads;
+
+    @Value("${match.progress.sender-queue-capacity:200}")
+    private int progressSenderQueueCapacity;
+
+    @Value("${match.scoring.parallelism:0}")
+    private int scoringParallelism;
+
+    @Value("${match.scoring.vectorized:true}")
+    private boolean scoringVectorized;
+
+    /**
+     * Bounded pool for background match runs, kept apart from Tomcat's request threads.
+     * Submissions beyond the queue capacity are rejected rather than piling up. Its tasks
+     * use the match connection pool.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor matchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("match-");
+        executor.setTaskDecorator(task -> WorkloadRoutingDataSource.runAs(WorkloadRoutingDataSource.Workload.MATCH, task));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Threads that write streamed responses (StreamingResponseBody), so a slow client holds
+     * one of these rather than a Tomcat request thread.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor webAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(webAsyncCoreSize);
+        executor.setMaxPoolSize(webAsyncMaxSize);
+        executor.setQueueCapacity(webAsyncQueueCapacity);
+        executor.setThreadNamePrefix("web-async-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Threads that write progress events to SSE subscribers, so a slow client blocks one
+     * of these and never the run it is watching.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor progressExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(progressSenderThreads);
+        executor.setMaxPoolSize(progressSenderThreads);
+        executor.setQueueCapacity(progressSenderQueueCapacity);
+        executor.setThreadNamePrefix("match-progress-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(webAsyncExecutor());
+        configurer.setDefaultTimeout(webAsyncTimeoutMs);
+    }
+
+    /**
+     * Dedicated fork-join pool for CPU-bound candidate scoring, so large match runs
+     * neither occupy the common pool nor compete with parallel streams elsewhere.
+     * A parallelism of 0 uses every available processor.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool matchScoringPool() {
+        int parallelism = scoringParallelism > 0 ? scoringParallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("match-scoring-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * SIMD skill scoring when enabled and the JVM runs with
+     * {@code --add-modules jdk.incubator.vector}; the scalar loop otherwise.
+     */
+    @Bean
+    public SkillScoreKernel skillScoreKernel() {
+        SkillScoreKernel kernel = SkillScoreKernel.create(scoringVectorized);
+        logger.info("Skill score kernel: {}", kernel.getName());
+        return kernel;
+    }
+}
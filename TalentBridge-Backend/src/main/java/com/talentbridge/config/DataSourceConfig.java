@@ -1,10 +1,22 @@
 package com.talentbridge.config;
 
+import com.talentbridge.config.WorkloadRoutingDataSource.Workload;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 
 @Configuration
@@ -19,18 +31,130 @@ public class DataSourceConfig {
     @Value("${spring.datasource.password}")
     private String password;
     
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int interactiveMaxSize;
+    
+    @Value("${spring.datasource.hikari.minimum-idle:5}")
+    private int interactiveMinIdle;
+    
+    @Value("${spring.datasource.hikari.connection-timeout:30000}")
+    private long connectionTimeoutMs;
+    
+    @Value("${datasource.match.maximum-pool-size:4}")
+    private int matchMaxSize;
+    
+    @Value("${datasource.match.minimum-idle:1}")
+    private int matchMinIdle;
+    
+    @Value("${datasource.scheduled.maximum-pool-size:2}")
+    private int scheduledMaxSize;
+    
+    @Value("${datasource.scheduled.minimum-idle:0}")
+    private int scheduledMinIdle;
+    
+    @Value("${datasource.replica.urls:}")
+    private String replicaUrls;
+    
+    @Value("${datasource.replica.maximum-pool-size:10}")
+    private int replicaMaxSize;
+    
+    @Value("${datasource.replica.minimum-idle:2}")
+    private int replicaMinIdle;
+    
+    @Value("${datasource.replica.max-lag-ms:5000}")
+    private long replicaMaxLagMs;
+    
+    /**
+     * One Hikari pool per workload behind a routing DataSource, which also sends reads to
+     * the replicas. Pool wait time, active, idle and pending connections are published as
+     * hikaricp.connections.* tagged by pool.
+     */
+    @Bean
+    public DataSource dataSource(MeterRegistry meterRegistry, ReplicaSet replicaSet) {
+        Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+        pools.put(Workload.INTERACTIVE, pool("interactive", url, interactiveMaxSize, interactiveMinIdle, meterRegistry));
+        pools.put(Workload.MATCH, pool("match", url, matchMaxSize, matchMinIdle, meterRegistry));
+        pools.put(Workload.SCHEDULED, pool("scheduled", url, scheduledMaxSize, scheduledMinIdle, meterRegistry));
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(pools, replicaSet);
+        routing.afterPropertiesSet();
+        return new LazyRoutingDataSource(routing);
+    }
+    
+    /**
+     * One pool per URL in datasource.replica.urls (comma separated, same credentials as the
+     * primary); none when the property is empty, and every read stays on the primary.
+     */
+    @Bean
+    public ReplicaSet replicaSet(MeterRegistry meterRegistry) {
+        List<String> urls = Arrays.stream(replicaUrls.split(","))
+                .map(String::trim)
+                .filter(u -> !u.isEmpty())
+                .collect(Collectors.toList());
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            pools.add(pool("replica-" + (i + 1), urls.get(i), replicaMaxSize, replicaMinIdle, meterRegistry));
+        }
+        return new ReplicaSet(pools, replicaMaxLagMs, meterRegistry);
+    }
+    
+    /**
+     * Proxies DAOs with {@link ReplicaRead} methods.
+     */
+    @Bean
+    public static ReplicaReadPostProcessor replicaReadPostProcessor() {
+        return new ReplicaReadPostProcessor();
+    }
+    
     @Bean
-    public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+    
+    /**
+     * Scheduled jobs take their connections from the scheduled pool.
+     */
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer scheduledWorkloadCustomizer() {
+        return scheduler -> scheduler.setThreadFactory(task ->
+                scheduler.newThread(WorkloadRoutingDataSource.runAs(Workload.SCHEDULED, task)));
+    }
+    
+    private HikariDataSource pool(String name, String jdbcUrl, int maxSize, int minIdle, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
         dataSource.setDriverClassName("org.postgresql.Driver");
-        dataSource.setUrl(url);
+        dataSource.setJdbcUrl(jdbcUrl);
         dataSource.setUsername(username);
         dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maxSize);
+        dataSource.setMinimumIdle(Math.min(minIdle, maxSize));
+        dataSource.setConnectionTimeout(connectionTimeoutMs);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        
+        // Lets the driver collapse JdbcTemplate.batchUpdate into multi-row INSERTs
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
         return dataSource;
     }
     
-    @Bean
-    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
-        return new JdbcTemplate(dataSource);
+    /**
+     * Defers taking a physical connection until the first statement, so the routing sees
+     * the transaction's read-only flag; closes the pools on shutdown.
+     */
+    static final class LazyRoutingDataSource extends LazyConnectionDataSourceProxy {
+        
+        private final WorkloadRoutingDataSource routing;
+        
+        LazyRoutingDataSource(WorkloadRoutingDataSource routing) {
+            this.routing = routing;
+            setTargetDataSource(routing);
+            // Known up front, so no connection is opened at startup to detect them
+            setDefaultAutoCommit(true);
+            setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            afterPropertiesSet();
+        }
+        
+        public void close() {
+            routing.close();
+        }
     }
-}
\ No newline at end of file
+}
@@ -61,4 +61,13 @@ public class JwtFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
+    
+    /**
+     * Streamed responses finish on an async dispatch of the same request, which is
+     * authorized again; the token is still in its headers.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
 }
\ No newline at end of file
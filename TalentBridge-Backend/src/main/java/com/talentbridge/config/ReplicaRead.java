@@ -0,0 +1,18 @@
+package com.talentbridge.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a DAO read that may be served by a read replica when it runs outside a
+ * transaction. Inside a read-write transaction it stays on the primary; inside a
+ * read-only one the transaction decides. Only for reads that tolerate replica lag.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaRead {
+}
@@ -0,0 +1,26 @@
+package com.talentbridge.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+
+/**
+ * Proxies beans with {@link ReplicaRead} methods so that, for the duration of each such
+ * call, the routing DataSource may send its queries to a replica.
+ */
+public class ReplicaReadPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public ReplicaReadPostProcessor() {
+        MethodInterceptor interceptor = invocation -> {
+            boolean previous = WorkloadRoutingDataSource.setReplicaRead(true);
+            try {
+                return invocation.proceed();
+            } finally {
+                WorkloadRoutingDataSource.setReplicaRead(previous);
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(ReplicaRead.class),
+                interceptor);
+    }
+}
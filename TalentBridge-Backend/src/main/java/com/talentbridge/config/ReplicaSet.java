@@ -0,0 +1,108 @@
+package com.talentbridge.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * The read replicas, each with its own pool, and how far each lags behind the primary.
+ *
+ * A replica serves reads only while its last measured lag is within max-lag-ms; one that
+ * lags further or cannot be reached is skipped until a later check finds it caught up.
+ * Until the first check every replica counts as unusable, so reads start on the primary.
+ */
+public class ReplicaSet {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaSet.class);
+
+    /** Zero when the replica has replayed everything it received, else seconds since the last replayed commit. */
+    private static final String LAG_SQL =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+    private final List<Replica> replicas;
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaSet(List<HikariDataSource> pools, long maxLagMs, MeterRegistry meterRegistry) {
+        this.replicas = pools.stream().map(Replica::new).collect(Collectors.toList());
+        this.maxLagMs = maxLagMs;
+        for (Replica replica : replicas) {
+            Gauge.builder("talentbridge.datasource.replica.lag", replica, r -> r.lagMs)
+                    .baseUnit("milliseconds")
+                    .tag("pool", replica.pool.getPoolName())
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean isEmpty() {
+        return replicas.isEmpty();
+    }
+
+    /**
+     * A replica within the lag limit, taken in turn, or null when none is.
+     */
+    public DataSource pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.usable) {
+                return replica.pool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Measures every replica's lag and updates which of them serve reads.
+     */
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            boolean usable;
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                rs.next();
+                double lag = rs.getDouble(1);
+                replica.lagMs = rs.wasNull() ? Double.NaN : lag;
+                usable = !rs.wasNull() && lag <= maxLagMs;
+            } catch (Exception e) {
+                replica.lagMs = Double.NaN;
+                usable = false;
+                if (replica.usable) {
+                    logger.warn("Replica {} unreachable: {}", replica.pool.getPoolName(), e.getMessage());
+                }
+            }
+            if (usable != replica.usable) {
+                logger.info("Replica {} {} (lag {} ms, limit {} ms)", replica.pool.getPoolName(),
+                        usable ? "serving reads" : "bypassed", replica.lagMs, maxLagMs);
+                replica.usable = usable;
+            }
+        }
+    }
+
+    public void close() {
+        replicas.forEach(r -> r.pool.close());
+    }
+
+    private static final class Replica {
+        private final HikariDataSource pool;
+        private volatile boolean usable;
+        private volatile double lagMs = Double.NaN;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
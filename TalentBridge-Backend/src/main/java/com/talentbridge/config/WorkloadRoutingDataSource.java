@@ -0,0 +1,103 @@
+package com.talentbridge.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Hands out connections from one pool per workload, so a heavy match run or a nightly
+ * job can exhaust only its own pool and never the one serving logins and page loads.
+ *
+ * The workload is a property of the current thread: INTERACTIVE unless the thread was
+ * started by the match executor or the scheduler, or the code runs inside {@link #callAs}.
+ *
+ * Reads go to a replica instead when replicas are configured and one is within the lag
+ * limit: every connection of a read-only transaction, and {@link ReplicaRead} DAO methods
+ * called outside a transaction. Writes and read-write transactions always use the primary.
+ * Both choices are made when the connection is first used (the DataSource is wrapped in a
+ * lazy proxy), by which point the transaction's read-only flag is known.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Workload { INTERACTIVE, MATCH, SCHEDULED }
+
+    private static final ThreadLocal<Workload> CURRENT = ThreadLocal.withInitial(() -> Workload.INTERACTIVE);
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final Map<Workload, HikariDataSource> pools;
+    private final ReplicaSet replicas;
+
+    public WorkloadRoutingDataSource(Map<Workload, HikariDataSource> pools, ReplicaSet replicas) {
+        this.pools = new EnumMap<>(pools);
+        this.replicas = replicas;
+        setTargetDataSources(new HashMap<Object, Object>(this.pools));
+        setDefaultTargetDataSource(this.pools.get(Workload.INTERACTIVE));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT.get();
+    }
+
+    @Override
+    protected DataSource determineTargetDataSource() {
+        if (!replicas.isEmpty() && readsFromReplica()) {
+            DataSource replica = replicas.pick();
+            if (replica != null) {
+                return replica;
+            }
+        }
+        return super.determineTargetDataSource();
+    }
+
+    private static boolean readsFromReplica() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+        return REPLICA_READ.get();
+    }
+
+    /**
+     * Sets whether non-transactional reads on this thread may use a replica; returns the
+     * previous setting for the caller to restore.
+     */
+    static boolean setReplicaRead(boolean replicaRead) {
+        boolean previous = REPLICA_READ.get();
+        REPLICA_READ.set(replicaRead);
+        return previous;
+    }
+
+    /**
+     * Runs the computation with connections taken from the given workload's pool.
+     */
+    public static <T> T callAs(Workload workload, Supplier<T> call) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return call.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * The task, running as the given workload on whichever thread executes it.
+     */
+    public static Runnable runAs(Workload workload, Runnable task) {
+        return () -> callAs(workload, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -44,6 +44,13 @@ public class AssignmentController {
         return ResponseEntity.ok(Map.of("assignmentId", assignmentId, "message", "Employee assigned successfully"));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> assignEmployees(@RequestBody List<Assignment> assignments) {
+        List<Integer> assignmentIds = assignmentService.assignEmployees(assignments);
+        return ResponseEntity.ok(Map.of("assignmentIds", assignmentIds,
+                "message", assignmentIds.size() + " employees assigned successfully"));
+    }
+
     @PutMapping("/release/{assignmentId}")
     public ResponseEntity<?> releaseEmployee(@PathVariable Integer assignmentId) {
         assignmentService.releaseEmployee(assignmentId);
@@ -1,29 +1,205 @@
 package com.talentbridge.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.talentbridge.model.AllocationPlan;
+import com.talentbridge.model.MatchOptions;
 import com.talentbridge.model.MatchResult;
+import com.talentbridge.model.MatchRun;
+import com.talentbridge.model.PortfolioMatchRequest;
+import com.talentbridge.model.ProjectCandidates;
+import com.talentbridge.model.ProjectMatch;
+import com.talentbridge.model.SimilarEmployee;
+import com.talentbridge.model.SimulationRequest;
+import com.talentbridge.model.SimulationResult;
+import com.talentbridge.model.Team;
+import com.talentbridge.service.CandidateScoreService;
 import com.talentbridge.service.MatchService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/api/match")
 public class MatchController {
     
+    private static final String NDJSON = "application/x-ndjson";
+    
+    /** Rows written between flushes of a streamed response. */
+    private static final int STREAM_FLUSH_ROWS = 100;
+    
+    private static final String STREAM_CLEANUP = MatchController.class.getName() + ".streamCleanup";
+    
     @Autowired
     private MatchService matchService;
     
+    @Autowired
+    private CandidateScoreService candidateScoreService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @PostMapping("/find-candidates/{projectId}")
-    public ResponseEntity<List<MatchResult>> findCandidates(
+    public ResponseEntity<?> findCandidates(
             @PathVariable Integer projectId,
+            @RequestParam(defaultValue = "false") boolean async,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) Float minScore,
+            @RequestParam(defaultValue = "true") boolean persistAll,
+            @RequestParam(defaultValue = "JAVA") MatchOptions.Mode mode,
             Authentication authentication) {
         Integer requestedBy = (Integer) authentication.getPrincipal();
-        List<MatchResult> candidates = matchService.findCandidates(projectId, requestedBy);
+        MatchOptions options = new MatchOptions(limit, offset, minScore, persistAll);
+        options.setMode(mode);
+        if (async) {
+            Integer matchId = matchService.startCandidateSearch(projectId, requestedBy, options);
+            return ResponseEntity.accepted().body(Map.of("matchId", matchId, "status", "PENDING"));
+        }
+        List<MatchResult> candidates = matchService.findCandidates(projectId, requestedBy, options);
         return ResponseEntity.ok(candidates);
     }
     
+    /**
+     * Same search as find-candidates, written as one JSON object per line as the ranking
+     * is read. The match_id is in the X-Match-Id header; only the streamed candidates are
+     * persisted. For OPEN projects the ranking comes from the materialized candidate
+     * scores, so the first line does not wait for the pool to be scored.
+     */
+    @PostMapping(value = "/find-candidates/{projectId}/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamCandidates(
+            @PathVariable Integer projectId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) Float minScore,
+            @RequestParam(defaultValue = "JAVA") MatchOptions.Mode mode,
+            Authentication authentication,
+            HttpServletRequest request) {
+        Integer requestedBy = (Integer) authentication.getPrincipal();
+        MatchOptions options = new MatchOptions(limit, offset, minScore, false);
+        options.setMode(mode);
+        Integer matchId = matchService.openCandidateStream(projectId, requestedBy, options);
+        
+        // Runs however the request ends, including when the body never got a thread
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(STREAM_CLEANUP,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        matchService.abandonCandidateStream(matchId);
+                    }
+                });
+        
+        ObjectWriter writer = objectMapper.writerFor(MatchResult.class);
+        StreamingResponseBody body = out -> {
+            int[] rows = new int[1];
+            try {
+                matchService.streamCandidates(matchId, options, result -> {
+                    try {
+                        out.write(writer.writeValueAsBytes(result));
+                        out.write('\n');
+                        // The first row goes out at once, then every STREAM_FLUSH_ROWS
+                        if (++rows[0] % STREAM_FLUSH_ROWS == 1) {
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .header("X-Match-Id", matchId.toString())
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+    
+    @PostMapping("/portfolio")
+    public ResponseEntity<List<ProjectCandidates>> findCandidatesForPortfolio(
+            @RequestBody(required = false) PortfolioMatchRequest request,
+            Authentication authentication) {
+        Integer requestedBy = (Integer) authentication.getPrincipal();
+        List<Integer> projectIds = request != null ? request.getProjectIds() : null;
+        int limit = request != null && request.getLimit() != null ? request.getLimit() : 10;
+        return ResponseEntity.ok(matchService.findCandidatesForPortfolio(projectIds, requestedBy, limit));
+    }
+    
+    @PostMapping("/allocation")
+    public ResponseEntity<AllocationPlan> proposeAllocation(
+            @RequestBody(required = false) PortfolioMatchRequest request) {
+        List<Integer> projectIds = request != null ? request.getProjectIds() : null;
+        return ResponseEntity.ok(matchService.proposeAllocation(projectIds));
+    }
+    
+    @PostMapping("/simulate")
+    public ResponseEntity<SimulationResult> simulate(@RequestBody SimulationRequest request) {
+        return ResponseEntity.ok(matchService.simulate(request));
+    }
+    
+    @GetMapping("/team-proposal/{projectId}")
+    public ResponseEntity<Team> proposeTeam(@PathVariable Integer projectId) {
+        return ResponseEntity.ok(matchService.proposeTeam(projectId));
+    }
+    
+    @GetMapping("/runs/{matchId}")
+    public ResponseEntity<MatchRun> getMatchRun(@PathVariable Integer matchId) {
+        return ResponseEntity.ok(matchService.getMatchRun(matchId));
+    }
+    
+    /**
+     * Server-Sent Events feed of a run's progress: candidates found, scored and persisted,
+     * and the current top five.
+     */
+    @GetMapping(value = "/runs/{matchId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getMatchRunEvents(@PathVariable Integer matchId) {
+        return matchService.subscribeToProgress(matchId);
+    }
+    
+    @GetMapping("/runs/{matchId}/results")
+    public ResponseEntity<List<MatchResult>> getMatchResults(
+            @PathVariable Integer matchId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(matchService.getMatchResults(matchId, page, size));
+    }
+    
+    @GetMapping("/ranked/{projectId}")
+    public ResponseEntity<List<MatchResult>> getRankedCandidates(
+            @PathVariable Integer projectId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(candidateScoreService.getRankedCandidates(projectId, page, size));
+    }
+    
+    @GetMapping("/projects-for/{userId}")
+    public ResponseEntity<List<ProjectMatch>> getProjectsFor(
+            @PathVariable Integer userId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(matchService.findProjectsFor(userId, limit));
+    }
+    
+    @GetMapping("/similar/{userId}")
+    public ResponseEntity<List<SimilarEmployee>> getSimilarEmployees(
+            @PathVariable Integer userId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(matchService.findSimilarEmployees(userId, limit));
+    }
+    
     @GetMapping("/score/{projectId}/{userId}")
     public ResponseEntity<MatchResult> getScore(
             @PathVariable Integer projectId,
@@ -1,5 +1,6 @@
 package com.talentbridge.controller;
 
+import com.talentbridge.model.KeysetPage;
 import com.talentbridge.model.Project;
 import com.talentbridge.service.ProjectService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +24,17 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getAllProjects(page, size));
     }
 
+    /**
+     * Keyset-paginated alternative to the page-numbered listing: pass the previous
+     * response's nextCursor to get the page after it.
+     */
+    @GetMapping("/keyset")
+    public ResponseEntity<KeysetPage<Project>> getAllProjectsKeyset(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(projectService.getAllProjectsAfter(cursor, size));
+    }
+
     @GetMapping("/{projectId}")
     public ResponseEntity<Project> getProjectById(@PathVariable Integer projectId) {
         return ResponseEntity.ok(projectService.getProjectById(projectId));
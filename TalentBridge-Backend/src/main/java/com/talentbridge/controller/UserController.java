@@ -3,6 +3,7 @@ package com.talentbridge.controller;
 import com.talentbridge.model.UserStats;
 import java.util.Map;
 
+import com.talentbridge.model.KeysetPage;
 import com.talentbridge.model.User;
 import com.talentbridge.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,6 +43,19 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
     
+    /**
+     * Keyset-paginated alternative to the page-numbered listing: pass the previous
+     * response's nextCursor to get the page after it.
+     */
+    @GetMapping("/keyset")
+    public ResponseEntity<KeysetPage<User>> getAllUsersKeyset(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        KeysetPage<User> users = userService.getAllUsersAfter(cursor, size);
+        users.getItems().forEach(u -> u.setPasswordHash(null));
+        return ResponseEntity.ok(users);
+    }
+    
     @GetMapping("/inactive")
     public ResponseEntity<List<User>> getInactiveUsers(
             @RequestParam(defaultValue = "1") int page,
@@ -51,6 +65,15 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
     
+    @GetMapping("/inactive/keyset")
+    public ResponseEntity<KeysetPage<User>> getInactiveUsersKeyset(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        KeysetPage<User> users = userService.getInactiveUsersAfter(cursor, size);
+        users.getItems().forEach(u -> u.setPasswordHash(null));
+        return ResponseEntity.ok(users);
+    }
+    
     @PutMapping("/{userId}")
     public ResponseEntity<?> updateUser(@PathVariable Integer userId, @RequestBody User user) {
         user.setUserId(userId);
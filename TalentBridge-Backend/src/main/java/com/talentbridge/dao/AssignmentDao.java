@@ -6,8 +6,10 @@ import java.util.List;
 public interface AssignmentDao {
     List<Assignment> findByProjectId(Integer projectId);
     List<Assignment> findByUserId(Integer userId);
+    List<Assignment> findByUserIds(List<Integer> userIds);
     Assignment findById(Integer assignmentId);
     Integer save(Assignment assignment);
+    List<Integer> saveAll(List<Assignment> assignments);
     void update(Assignment assignment);
     void releaseAssignment(Integer assignmentId);
     List<Assignment> findAll();
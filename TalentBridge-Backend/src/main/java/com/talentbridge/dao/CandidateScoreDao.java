@@ -0,0 +1,18 @@
+package com.talentbridge.dao;
+
+import com.talentbridge.model.MatchResult;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public interface CandidateScoreDao {
+    List<Integer> findBuiltProjectIds();
+    boolean isBuilt(Integer projectId);
+    void replaceProject(Integer projectId, List<MatchResult> scores);
+    void deleteProject(Integer projectId);
+    void saveUserScores(Integer userId, Map<Integer, MatchResult> scoresByProject);
+    void deleteUserScores(Integer userId, List<Integer> projectIds);
+    void deleteUser(Integer userId);
+    List<MatchResult> findRanked(Integer projectId, int offset, int limit);
+    void streamRanked(Integer projectId, Float minScore, int offset, Integer limit, Consumer<MatchResult> sink);
+}
@@ -0,0 +1,9 @@
+package com.talentbridge.dao;
+
+import java.util.List;
+import java.util.Map;
+
+public interface EmployeeAvailabilityDao {
+    Integer findCurrentPercentAvailable(Integer userId);
+    Map<Integer, Integer> findCurrentPercentAvailable(List<Integer> userIds);
+}
@@ -5,6 +5,7 @@ import java.util.List;
 
 public interface EmployeeSkillDao {
     List<EmployeeSkill> findByUserId(Integer userId);
+    List<EmployeeSkill> findByUserIds(List<Integer> userIds);
     List<EmployeeSkill> findAll();
     EmployeeSkill findById(Integer id);
     Integer save(EmployeeSkill employeeSkill);
@@ -0,0 +1,23 @@
+package com.talentbridge.dao;
+
+import com.talentbridge.model.MatchResult;
+import com.talentbridge.model.MatchRun;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public interface MatchDao {
+    Integer createMatch(Integer projectId, Integer requestedBy);
+    Map<Integer, Integer> createMatches(List<Integer> projectIds, Integer requestedBy);
+    void updateStatus(Integer matchId, String status);
+    void updateStatuses(List<Integer> matchIds, String status);
+    boolean updateStatusFrom(Integer matchId, String expected, String status);
+    int saveResults(List<MatchResult> results);
+    MatchRun findById(Integer matchId);
+    List<MatchResult> findResults(Integer matchId, int offset, int limit);
+    void streamResults(Integer matchId, Float minScore, int offset, Integer limit, Consumer<MatchResult> sink);
+    long findInputVersion();
+    void bumpInputVersion();
+    List<MatchResult> scoreAndSaveResults(Integer matchId, Integer projectId, Float minScore,
+                                          int offset, int windowSize, boolean persistAll);
+}
@@ -1,10 +1,12 @@
 package com.talentbridge.dao;
 
 import com.talentbridge.model.Project;
+import com.talentbridge.util.KeysetCursor;
 import java.util.List;
 
 public interface ProjectDao {
     List<Project> findAll(int offset, int limit);
+    List<Project> findAllAfter(KeysetCursor after, int limit);
     Project findById(Integer projectId);
     Integer save(Project project);
     void update(Project project);
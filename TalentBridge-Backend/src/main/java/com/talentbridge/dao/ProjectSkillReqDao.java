@@ -5,6 +5,9 @@ import java.util.List;
 
 public interface ProjectSkillReqDao {
     List<ProjectSkillReq> findByProjectId(Integer projectId);
+    List<ProjectSkillReq> findByProjectIds(List<Integer> projectIds);
+    List<Integer> findProjectIdsBySkillId(Integer skillId);
+    ProjectSkillReq findById(Integer id);
     Integer save(ProjectSkillReq req);
     void update(ProjectSkillReq req);
     void delete(Integer id);
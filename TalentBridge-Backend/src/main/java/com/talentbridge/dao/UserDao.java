@@ -2,13 +2,16 @@
 package com.talentbridge.dao;
 
 import com.talentbridge.model.*;
+import com.talentbridge.util.KeysetCursor;
 import java.util.List;
 import java.util.Map;
 
 public interface UserDao {
     User findByEmail(String email);
     User findById(Integer userId);
+    List<User> findByIds(List<Integer> userIds);
     List<User> findAll(int offset, int limit);
+    List<User> findAllAfter(KeysetCursor after, int limit);
     Integer save(User user);
     void update(User user);
     void delete(Integer userId);
@@ -18,5 +21,6 @@ public interface UserDao {
     Map<String, Integer> countByRole();
     Map<String, Integer> countByStatus();
     List<User> findInactive(int offset, int limit);
+    List<User> findInactiveAfter(KeysetCursor after, int limit);
     void reactivate(Integer userId);
 }
@@ -1,7 +1,9 @@
 package com.talentbridge.dao.impl;
 
 import com.talentbridge.dao.AssignmentDao;
+import com.talentbridge.dao.mapping.AssignmentRowMapper;
 import com.talentbridge.model.Assignment;
+import com.talentbridge.util.SqlUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -10,6 +12,8 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Repository
@@ -18,21 +22,7 @@ public class AssignmentDaoImpl implements AssignmentDao {
     @Autowired
     private JdbcTemplate jdbcTemplate;
     
-    private final RowMapper<Assignment> assignmentRowMapper = (rs, rowNum) -> {
-        Assignment assignment = new Assignment();
-        assignment.setAssignmentId(rs.getInt("assignment_id"));
-        assignment.setProjectId(rs.getInt("project_id"));
-        assignment.setUserId(rs.getInt("user_id"));
-        assignment.setRoleOnProject(rs.getString("role_on_project"));
-        assignment.setAssignedAt(rs.getTimestamp("assigned_at").toLocalDateTime());
-        assignment.setReleaseDate(rs.getDate("release_date") != null ? rs.getDate("release_date").toLocalDate() : null);
-        assignment.setStatus(rs.getString("status"));
-        try {
-            assignment.setProjectName(rs.getString("project_name"));
-            assignment.setEmployeeName(rs.getString("employee_name"));
-        } catch (Exception e) {}
-        return assignment;
-    };
+    private final RowMapper<Assignment> assignmentRowMapper = AssignmentRowMapper.INSTANCE;
     
     @Override
     public List<Assignment> findByProjectId(Integer projectId) {
@@ -54,6 +44,20 @@ public class AssignmentDaoImpl implements AssignmentDao {
         return jdbcTemplate.query(sql, assignmentRowMapper, userId);
     }
     
+    @Override
+    public List<Assignment> findByUserIds(List<Integer> userIds) {
+        List<Assignment> assignments = new ArrayList<>();
+        for (List<Integer> chunk : SqlUtil.partition(userIds, SqlUtil.IN_CHUNK_SIZE)) {
+            String sql = "SELECT a.*, u.full_name as employee_name, p.name as project_name " +
+                        "FROM assignments a " +
+                        "JOIN users u ON a.user_id = u.user_id " +
+                        "JOIN projects p ON a.project_id = p.project_id " +
+                        "WHERE a.user_id IN (" + SqlUtil.placeholders(chunk.size()) + ") AND a.status = 'ASSIGNED'";
+            assignments.addAll(jdbcTemplate.query(sql, assignmentRowMapper, chunk.toArray()));
+        }
+        return assignments;
+    }
+    
     @Override
     public Assignment findById(Integer assignmentId) {
         String sql = "SELECT a.*, u.full_name as employee_name, p.name as project_name " +
@@ -83,6 +87,30 @@ public class AssignmentDaoImpl implements AssignmentDao {
         return (Integer) keyHolder.getKeys().get("assignment_id");
     }
     
+    /**
+     * Inserts all rows with one multi-row INSERT per chunk.
+     *
+     * @return generated ids in input order
+     */
+    @Override
+    public List<Integer> saveAll(List<Assignment> assignments) {
+        List<Integer> ids = new ArrayList<>(assignments.size());
+        for (List<Assignment> chunk : SqlUtil.partition(assignments, SqlUtil.IN_CHUNK_SIZE)) {
+            String sql = "INSERT INTO assignments (project_id, user_id, role_on_project, status) VALUES " +
+                         String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?, ?)")) +
+                         " RETURNING assignment_id";
+            List<Object> args = new ArrayList<>(chunk.size() * 4);
+            for (Assignment assignment : chunk) {
+                args.add(assignment.getProjectId());
+                args.add(assignment.getUserId());
+                args.add(assignment.getRoleOnProject());
+                args.add(assignment.getStatus() != null ? assignment.getStatus() : "ASSIGNED");
+            }
+            ids.addAll(jdbcTemplate.queryForList(sql, Integer.class, args.toArray()));
+        }
+        return ids;
+    }
+    
     @Override
     public void update(Assignment assignment) {
         String sql = "UPDATE assignments SET role_on_project = ?, release_date = ?, status = ? WHERE assignment_id = ?";
@@ -0,0 +1,164 @@
+package com.talentbridge.dao.impl;
+
+import com.talentbridge.dao.CandidateScoreDao;
+import com.talentbridge.model.MatchResult;
+import com.talentbridge.util.SqlUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Repository
+public class CandidateScoreDaoImpl implements CandidateScoreDao {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO project_candidate_scores (project_id, user_id, total_score, skill_score, " +
+            "experience_score, availability_score, computed_at) VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (project_id, user_id) DO UPDATE SET total_score = EXCLUDED.total_score, " +
+            "skill_score = EXCLUDED.skill_score, experience_score = EXCLUDED.experience_score, " +
+            "availability_score = EXCLUDED.availability_score, computed_at = EXCLUDED.computed_at";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${match.persist.batch-size:500}")
+    private int batchSize;
+
+    @Value("${match.stream.fetch-size:500}")
+    private int streamFetchSize;
+
+    private final RowMapper<MatchResult> scoreRowMapper = (rs, rowNum) -> {
+        MatchResult result = new MatchResult();
+        result.setUserId(rs.getInt("user_id"));
+        result.setTotalScore(rs.getFloat("total_score"));
+        result.setSkillScore(rs.getFloat("skill_score"));
+        result.setExperienceScore(rs.getFloat("experience_score"));
+        result.setAvailabilityScore(rs.getFloat("availability_score"));
+        result.setEmployeeName(rs.getString("employee_name"));
+        result.setEmployeeEmail(rs.getString("employee_email"));
+        return result;
+    };
+
+    @Override
+    public List<Integer> findBuiltProjectIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT project_id FROM project_candidate_score_builds ORDER BY project_id", Integer.class);
+    }
+
+    @Override
+    public boolean isBuilt(Integer projectId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM project_candidate_score_builds WHERE project_id = ?", Integer.class, projectId);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void replaceProject(Integer projectId, List<MatchResult> scores) {
+        jdbcTemplate.update("DELETE FROM project_candidate_scores WHERE project_id = ?", projectId);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, scores, Math.max(1, batchSize), (ps, score) -> {
+            ps.setInt(1, projectId);
+            setScore(ps, score);
+        });
+        jdbcTemplate.update("INSERT INTO project_candidate_score_builds (project_id) VALUES (?) " +
+                            "ON CONFLICT (project_id) DO UPDATE SET built_at = CURRENT_TIMESTAMP", projectId);
+    }
+
+    @Override
+    public void deleteProject(Integer projectId) {
+        jdbcTemplate.update("DELETE FROM project_candidate_score_builds WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM project_candidate_scores WHERE project_id = ?", projectId);
+    }
+
+    @Override
+    public void saveUserScores(Integer userId, Map<Integer, MatchResult> scoresByProject) {
+        if (scoresByProject.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new ArrayList<>(scoresByProject.entrySet()), Math.max(1, batchSize),
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getKey());
+                    setScore(ps, entry.getValue());
+                });
+    }
+
+    @Override
+    public void deleteUserScores(Integer userId, List<Integer> projectIds) {
+        for (List<Integer> chunk : SqlUtil.partition(projectIds, SqlUtil.IN_CHUNK_SIZE)) {
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(userId);
+            args.addAll(chunk);
+            jdbcTemplate.update("DELETE FROM project_candidate_scores WHERE user_id = ? AND project_id IN (" +
+                                SqlUtil.placeholders(chunk.size()) + ")", args.toArray());
+        }
+    }
+
+    @Override
+    public void deleteUser(Integer userId) {
+        jdbcTemplate.update("DELETE FROM project_candidate_scores WHERE user_id = ?", userId);
+    }
+
+    @Override
+    public List<MatchResult> findRanked(Integer projectId, int offset, int limit) {
+        String sql = "SELECT pcs.*, u.full_name as employee_name, u.email as employee_email " +
+                     "FROM project_candidate_scores pcs " +
+                     "JOIN users u ON pcs.user_id = u.user_id " +
+                     "WHERE pcs.project_id = ? " +
+                     "ORDER BY pcs.total_score DESC, pcs.user_id LIMIT ? OFFSET ?";
+        return jdbcTemplate.query(sql, scoreRowMapper, projectId, limit, offset);
+    }
+
+    /**
+     * Hands a project's ranking to the sink through a server-side cursor (inside a
+     * transaction), so the first row arrives after one index range read however many
+     * candidates the project has.
+     */
+    @Override
+    public void streamRanked(Integer projectId, Float minScore, int offset, Integer limit,
+                             Consumer<MatchResult> sink) {
+        String sql = "SELECT pcs.*, u.full_name as employee_name, u.email as employee_email " +
+                     "FROM project_candidate_scores pcs " +
+                     "JOIN users u ON pcs.user_id = u.user_id " +
+                     "WHERE pcs.project_id = ? " + (minScore != null ? "AND pcs.total_score >= ? " : "") +
+                     "ORDER BY pcs.total_score DESC, pcs.user_id " +
+                     (limit != null ? "LIMIT ? " : "") + "OFFSET ?";
+
+        List<Object> args = new ArrayList<>();
+        args.add(projectId);
+        if (minScore != null) {
+            args.add(minScore);
+        }
+        if (limit != null) {
+            args.add(limit);
+        }
+        args.add(offset);
+
+        int[] rowNum = new int[1];
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamFetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, rs -> {
+            sink.accept(scoreRowMapper.mapRow(rs, rowNum[0]++));
+        });
+    }
+
+    private static void setScore(PreparedStatement ps, MatchResult score) throws SQLException {
+        ps.setInt(2, score.getUserId());
+        ps.setFloat(3, score.getTotalScore());
+        ps.setFloat(4, score.getSkillScore());
+        ps.setFloat(5, score.getExperienceScore());
+        ps.setFloat(6, score.getAvailabilityScore());
+    }
+}
@@ -0,0 +1,47 @@
+package com.talentbridge.dao.impl;
+
+import com.talentbridge.dao.EmployeeAvailabilityDao;
+import com.talentbridge.util.SqlUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class EmployeeAvailabilityDaoImpl implements EmployeeAvailabilityDao {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Integer findCurrentPercentAvailable(Integer userId) {
+        String sql = "SELECT percent_available FROM employee_availability " +
+                     "WHERE user_id = ? AND (to_date IS NULL OR to_date >= CURRENT_DATE) " +
+                     "ORDER BY from_date DESC LIMIT 1";
+        List<Integer> availability = jdbcTemplate.query(sql,
+                (rs, rowNum) -> rs.getInt("percent_available"), userId);
+        return availability.isEmpty() ? null : availability.get(0);
+    }
+
+    /**
+     * Latest open availability window per user, same rule as the single-user lookup.
+     * Users without a current window are absent from the returned map.
+     */
+    @Override
+    public Map<Integer, Integer> findCurrentPercentAvailable(List<Integer> userIds) {
+        Map<Integer, Integer> availability = new HashMap<>();
+        for (List<Integer> chunk : SqlUtil.partition(userIds, SqlUtil.IN_CHUNK_SIZE)) {
+            String sql = "SELECT DISTINCT ON (user_id) user_id, percent_available FROM employee_availability " +
+                         "WHERE user_id IN (" + SqlUtil.placeholders(chunk.size()) + ") " +
+                         "AND (to_date IS NULL OR to_date >= CURRENT_DATE) " +
+                         "ORDER BY user_id, from_date DESC";
+            jdbcTemplate.query(sql, rs -> {
+                availability.put(rs.getInt("user_id"), rs.getInt("percent_available"));
+            }, chunk.toArray());
+        }
+        return availability;
+    }
+}
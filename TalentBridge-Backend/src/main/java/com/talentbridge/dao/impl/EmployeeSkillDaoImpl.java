@@ -1,7 +1,9 @@
 package com.talentbridge.dao.impl;
 
 import com.talentbridge.dao.EmployeeSkillDao;
+import com.talentbridge.dao.mapping.EmployeeSkillRowMapper;
 import com.talentbridge.model.EmployeeSkill;
+import com.talentbridge.util.SqlUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
@@ -19,31 +22,7 @@ public class EmployeeSkillDaoImpl implements EmployeeSkillDao {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private final RowMapper<EmployeeSkill> employeeSkillRowMapper = (rs, rowNum) -> {
-        EmployeeSkill es = new EmployeeSkill();
-        es.setId(rs.getInt("id"));
-        es.setUserId(rs.getInt("user_id"));
-        es.setSkillId(rs.getInt("skill_id"));
-        es.setLevel(rs.getInt("level"));
-        es.setYearsExperience(rs.getInt("years_experience"));
-
-        Object lastUsedObj = rs.getObject("last_used_year");
-        if (lastUsedObj != null) {
-            es.setLastUsedYear(((Number) lastUsedObj).intValue());
-        } else {
-            es.setLastUsedYear(null);
-        }
-
-        try {
-            es.setSkillName(rs.getString("skill_name"));
-        } catch (Exception ignored) {}
-
-        try {
-            es.setUserName(rs.getString("user_name"));
-        } catch (Exception ignored) {}
-
-        return es;
-    };
+    private final RowMapper<EmployeeSkill> employeeSkillRowMapper = EmployeeSkillRowMapper.INSTANCE;
 
     @Override
     public List<EmployeeSkill> findByUserId(Integer userId) {
@@ -52,6 +31,18 @@ public class EmployeeSkillDaoImpl implements EmployeeSkillDao {
         return jdbcTemplate.query(sql, employeeSkillRowMapper, userId);
     }
 
+    @Override
+    public List<EmployeeSkill> findByUserIds(List<Integer> userIds) {
+        List<EmployeeSkill> skills = new ArrayList<>();
+        for (List<Integer> chunk : SqlUtil.partition(userIds, SqlUtil.IN_CHUNK_SIZE)) {
+            String sql = "SELECT es.*, s.name as skill_name FROM employee_skills es " +
+                         "JOIN skills s ON es.skill_id = s.skill_id " +
+                         "WHERE es.user_id IN (" + SqlUtil.placeholders(chunk.size()) + ")";
+            skills.addAll(jdbcTemplate.query(sql, employeeSkillRowMapper, chunk.toArray()));
+        }
+        return skills;
+    }
+
     @Override
     public List<EmployeeSkill> findAll() {
         String sql = "SELECT es.*, s.name as skill_name, u.full_name as user_name " +
@@ -0,0 +1,297 @@
+package com.talentbridge.dao.impl;
+
+import com.talentbridge.dao.MatchDao;
+import com.talentbridge.model.MatchResult;
+import com.talentbridge.model.MatchRun;
+import com.talentbridge.util.SqlUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Repository
+public class MatchDaoImpl implements MatchDao {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${match.persist.batch-size:500}")
+    private int batchSize;
+
+    @Value("${match.stream.fetch-size:500}")
+    private int streamFetchSize;
+
+    private final RowMapper<MatchRun> matchRunRowMapper = (rs, rowNum) -> {
+        MatchRun run = new MatchRun();
+        run.setMatchId(rs.getInt("match_id"));
+        run.setProjectId(rs.getInt("project_id"));
+        Object requestedBy = rs.getObject("requested_by");
+        run.setRequestedBy(requestedBy != null ? ((Number) requestedBy).intValue() : null);
+        run.setStatus(rs.getString("status"));
+        run.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        run.setResultCount(rs.getInt("result_count"));
+        return run;
+    };
+
+    private final RowMapper<MatchResult> matchResultRowMapper = (rs, rowNum) -> {
+        MatchResult result = new MatchResult();
+        result.setMatchId(rs.getInt("match_id"));
+        result.setUserId(rs.getInt("user_id"));
+        result.setTotalScore(rs.getFloat("total_score"));
+        result.setSkillScore(rs.getFloat("skill_score"));
+        result.setExperienceScore(rs.getFloat("experience_score"));
+        result.setAvailabilityScore(rs.getFloat("availability_score"));
+        result.setEmployeeName(rs.getString("employee_name"));
+        result.setEmployeeEmail(rs.getString("employee_email"));
+        return result;
+    };
+
+    @Override
+    public Integer createMatch(Integer projectId, Integer requestedBy) {
+        String sql = "INSERT INTO matches (project_id, requested_by, status) " +
+                     "VALUES (?, ?, 'PENDING') RETURNING match_id";
+        return jdbcTemplate.queryForObject(sql, Integer.class, projectId, requestedBy);
+    }
+
+    /**
+     * One PENDING match per project in a single multi-row INSERT per chunk.
+     *
+     * @return match_id keyed by project_id
+     */
+    @Override
+    public Map<Integer, Integer> createMatches(List<Integer> projectIds, Integer requestedBy) {
+        Map<Integer, Integer> matchIds = new HashMap<>();
+        for (List<Integer> chunk : SqlUtil.partition(projectIds, SqlUtil.IN_CHUNK_SIZE)) {
+            String sql = "INSERT INTO matches (project_id, requested_by, status) VALUES " +
+                         String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, 'PENDING')")) +
+                         " RETURNING match_id, project_id";
+            List<Object> args = new ArrayList<>(chunk.size() * 2);
+            for (Integer projectId : chunk) {
+                args.add(projectId);
+                args.add(requestedBy);
+            }
+            jdbcTemplate.query(sql, rs -> {
+                matchIds.put(rs.getInt("project_id"), rs.getInt("match_id"));
+            }, args.toArray());
+        }
+        return matchIds;
+    }
+
+    @Override
+    public void updateStatus(Integer matchId, String status) {
+        jdbcTemplate.update("UPDATE matches SET status = ? WHERE match_id = ?", status, matchId);
+    }
+
+    /**
+     * Moves a match to {@code status} only if it is still in {@code expected}; false if not.
+     */
+    @Override
+    public boolean updateStatusFrom(Integer matchId, String expected, String status) {
+        return jdbcTemplate.update("UPDATE matches SET status = ? WHERE match_id = ? AND status = ?",
+                status, matchId, expected) > 0;
+    }
+
+    @Override
+    public void updateStatuses(List<Integer> matchIds, String status) {
+        for (List<Integer> chunk : SqlUtil.partition(matchIds, SqlUtil.IN_CHUNK_SIZE)) {
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(status);
+            args.addAll(chunk);
+            jdbcTemplate.update("UPDATE matches SET status = ? WHERE match_id IN (" +
+                                SqlUtil.placeholders(chunk.size()) + ")", args.toArray());
+        }
+    }
+
+    /**
+     * Writes results in JDBC batches of match.persist.batch-size rows.
+     * With reWriteBatchedInserts enabled on the connection, each batch goes out
+     * as a handful of multi-row INSERTs instead of one round trip per row.
+     */
+    @Override
+    public int saveResults(List<MatchResult> results) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+        String sql = "INSERT INTO match_results (match_id, user_id, total_score, skill_score, " +
+                     "experience_score, availability_score) VALUES (?, ?, ?, ?, ?, ?)";
+
+        jdbcTemplate.batchUpdate(sql, results, Math.max(1, batchSize), (ps, result) -> {
+            ps.setInt(1, result.getMatchId());
+            ps.setInt(2, result.getUserId());
+            ps.setFloat(3, result.getTotalScore());
+            ps.setFloat(4, result.getSkillScore());
+            ps.setFloat(5, result.getExperienceScore());
+            ps.setFloat(6, result.getAvailabilityScore());
+        });
+        return results.size();
+    }
+
+    @Override
+    public MatchRun findById(Integer matchId) {
+        String sql = "SELECT m.*, (SELECT COUNT(*) FROM match_results mr WHERE mr.match_id = m.match_id) as result_count " +
+                     "FROM matches m WHERE m.match_id = ?";
+        List<MatchRun> runs = jdbcTemplate.query(sql, matchRunRowMapper, matchId);
+        return runs.isEmpty() ? null : runs.get(0);
+    }
+
+    @Override
+    public List<MatchResult> findResults(Integer matchId, int offset, int limit) {
+        String sql = "SELECT mr.*, u.full_name as employee_name, u.email as employee_email " +
+                     "FROM match_results mr " +
+                     "JOIN users u ON mr.user_id = u.user_id " +
+                     "WHERE mr.match_id = ? " +
+                     "ORDER BY mr.total_score DESC, mr.user_id LIMIT ? OFFSET ?";
+        return jdbcTemplate.query(sql, matchResultRowMapper, matchId, limit, offset);
+    }
+
+    /**
+     * Hands a run's results to the sink in ranking order, reading them through a
+     * server-side cursor of match.stream.fetch-size rows, so memory stays flat however
+     * many rows there are. The PostgreSQL driver only uses a cursor inside a transaction;
+     * outside one the rows are still streamed to the sink but buffered by the driver.
+     */
+    @Override
+    public void streamResults(Integer matchId, Float minScore, int offset, Integer limit,
+                              Consumer<MatchResult> sink) {
+        String sql = "SELECT mr.*, u.full_name as employee_name, u.email as employee_email " +
+                     "FROM match_results mr " +
+                     "JOIN users u ON mr.user_id = u.user_id " +
+                     "WHERE mr.match_id = ? " + (minScore != null ? "AND mr.total_score >= ? " : "") +
+                     "ORDER BY mr.total_score DESC, mr.user_id " +
+                     (limit != null ? "LIMIT ? " : "") + "OFFSET ?";
+
+        List<Object> args = new ArrayList<>();
+        args.add(matchId);
+        if (minScore != null) {
+            args.add(minScore);
+        }
+        if (limit != null) {
+            args.add(limit);
+        }
+        args.add(offset);
+
+        int[] rowNum = new int[1];
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamFetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, rs -> {
+            sink.accept(matchResultRowMapper.mapRow(rs, rowNum[0]++));
+        });
+    }
+
+    /**
+     * Version of everything a match run reads from the database besides skills and
+     * requirements: assignments and availability. See
+     * {@link com.talentbridge.matching.MatchResultCache#inputsChanged}.
+     */
+    @Override
+    public long findInputVersion() {
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM match_input_version WHERE id = 1", Long.class);
+        return version != null ? version : 0L;
+    }
+
+    @Override
+    public void bumpInputVersion() {
+        jdbcTemplate.update("UPDATE match_input_version SET version = version + 1 WHERE id = 1");
+    }
+
+    /**
+     * Scores, ranks and persists a project's candidates in one statement, without
+     * loading anything into the application.
+     *
+     * The arithmetic mirrors MatchScorer step by step in REAL (single precision) and
+     * sums skill points in requirement order, so every component, and the total built
+     * from them, is the same float calculateScore produces. The candidate pool matches
+     * the in-memory engine: active EMPLOYEE users holding at least one required skill
+     * who are not already assigned to the project.
+     *
+     * @param windowSize rows passing minScore to keep (offset + limit)
+     * @param persistAll write every scored candidate to match_results, not only the kept rows
+     * @return the kept rows from offset onwards, best first
+     */
+    @Override
+    public List<MatchResult> scoreAndSaveResults(Integer matchId, Integer projectId, Float minScore,
+                                                 int offset, int windowSize, boolean persistAll) {
+        String sql = "WITH req AS (" +
+                     "  SELECT psr.id, psr.skill_id, psr.desired_level, COALESCE(psr.weight, 1)::real AS weight " +
+                     "  FROM project_skill_requirements psr WHERE psr.project_id = ?), " +
+                     "totals AS (" +
+                     "  SELECT SUM(weight ORDER BY id) AS total_weight, MAX(desired_level) AS max_level FROM req), " +
+                     "skill_points AS (" +
+                     "  SELECT es.user_id, SUM(CASE WHEN es.level >= r.desired_level THEN r.weight * 100::real " +
+                     "    ELSE (es.level::real / r.desired_level::real) * r.weight * 100::real END ORDER BY r.id) AS points " +
+                     "  FROM req r " +
+                     "  JOIN employee_skills es ON es.skill_id = r.skill_id " +
+                     "  JOIN users u ON u.user_id = es.user_id " +
+                     "  WHERE u.role = 'EMPLOYEE' AND u.is_active " +
+                     "  GROUP BY es.user_id), " +
+                     "experience AS (" +
+                     "  SELECT es.user_id, COUNT(*) AS skill_count, SUM(es.years_experience) AS total_years " +
+                     "  FROM employee_skills es WHERE es.user_id IN (SELECT user_id FROM skill_points) " +
+                     "  GROUP BY es.user_id), " +
+                     "workload AS (" +
+                     "  SELECT a.user_id, BOOL_OR(a.project_id = ?) AS on_project FROM assignments a " +
+                     "  WHERE a.status = 'ASSIGNED' AND a.user_id IN (SELECT user_id FROM skill_points) " +
+                     "  GROUP BY a.user_id), " +
+                     "availability AS (" +
+                     "  SELECT DISTINCT ON (ea.user_id) ea.user_id, ea.percent_available FROM employee_availability ea " +
+                     "  WHERE ea.user_id IN (SELECT user_id FROM workload) " +
+                     "  AND (ea.to_date IS NULL OR ea.to_date >= CURRENT_DATE) " +
+                     "  ORDER BY ea.user_id, ea.from_date DESC), " +
+                     "components AS (" +
+                     "  SELECT sp.user_id, " +
+                     "    CASE WHEN t.total_weight > 0 THEN sp.points / t.total_weight ELSE 0 END AS skill_score, " +
+                     "    LEAST((((e.total_years::float8 / e.skill_count) / " +
+                     "      CASE WHEN t.max_level <= 2 THEN 2 WHEN t.max_level = 3 THEN 5 ELSE 7 END) * 100)::real, " +
+                     "      100::real) AS experience_score, " +
+                     "    (CASE WHEN w.user_id IS NULL THEN 100 ELSE COALESCE(av.percent_available, 50) END)::real " +
+                     "      AS availability_score " +
+                     "  FROM skill_points sp " +
+                     "  CROSS JOIN totals t " +
+                     "  JOIN experience e ON e.user_id = sp.user_id " +
+                     "  LEFT JOIN workload w ON w.user_id = sp.user_id " +
+                     "  LEFT JOIN availability av ON av.user_id = sp.user_id " +
+                     "  WHERE w.on_project IS NOT TRUE), " +
+                     "scored AS (" +
+                     "  SELECT c.*, c.skill_score * 0.6::real + c.experience_score * 0.3::real " +
+                     "    + c.availability_score * 0.1::real AS total_score FROM components c), " +
+                     "kept AS (" +
+                     "  SELECT * FROM scored " + (minScore != null ? "WHERE total_score >= ? " : "") +
+                     "  ORDER BY total_score DESC, user_id LIMIT ?), " +
+                     "saved AS (" +
+                     "  INSERT INTO match_results (match_id, user_id, total_score, skill_score, " +
+                     "    experience_score, availability_score) " +
+                     "  SELECT ?, user_id, total_score, skill_score, experience_score, availability_score " +
+                     "  FROM " + (persistAll ? "scored" : "kept") + ") " +
+                     "SELECT ?::integer AS match_id, k.user_id, k.total_score, k.skill_score, k.experience_score, " +
+                     "k.availability_score, u.full_name AS employee_name, u.email AS employee_email " +
+                     "FROM kept k JOIN users u ON u.user_id = k.user_id " +
+                     "ORDER BY k.total_score DESC, k.user_id OFFSET ?";
+
+        List<Object> args = new ArrayList<>();
+        args.add(projectId);
+        args.add(projectId);
+        if (minScore != null) {
+            args.add(minScore);
+        }
+        args.add(windowSize);
+        args.add(matchId);
+        args.add(matchId);
+        args.add(offset);
+        return jdbcTemplate.query(sql, matchResultRowMapper, args.toArray());
+    }
+}
@@ -1,6 +1,8 @@
 package com.talentbridge.dao.impl;
 
+import com.talentbridge.config.ReplicaRead;
 import com.talentbridge.dao.NotificationDao;
+import com.talentbridge.dao.mapping.NotificationRowMapper;
 import com.talentbridge.model.Notification;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -19,16 +21,7 @@ public class NotificationDaoImpl implements NotificationDao {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private final RowMapper<Notification> notificationRowMapper = (rs, rowNum) -> {
-        Notification n = new Notification();
-        n.setNotificationId(rs.getInt("notification_id"));
-        n.setUserId(rs.getInt("user_id"));
-        n.setMessage(rs.getString("message"));
-        n.setType(rs.getString("type"));
-        n.setIsRead(rs.getBoolean("is_read"));
-        n.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        return n;
-    };
+    private final RowMapper<Notification> notificationRowMapper = NotificationRowMapper.INSTANCE;
 
     @Override
     public Integer save(Notification notification) {
@@ -51,12 +44,14 @@ public class NotificationDaoImpl implements NotificationDao {
     }
 
     @Override
+    @ReplicaRead
     public List<Notification> findByUserId(Integer userId) {
         String sql = "SELECT * FROM notifications WHERE user_id = ? ORDER BY created_at DESC";
         return jdbcTemplate.query(sql, notificationRowMapper, userId);
     }
 
     @Override
+    @ReplicaRead
     public List<Notification> findUnreadByUserId(Integer userId) {
         String sql = "SELECT * FROM notifications WHERE user_id = ? AND is_read = FALSE ORDER BY created_at DESC";
         return jdbcTemplate.query(sql, notificationRowMapper, userId);
@@ -79,6 +74,7 @@ public class NotificationDaoImpl implements NotificationDao {
     }
 
     @Override
+    @ReplicaRead
     public int countUnreadByUserId(Integer userId) {
         String sql = "SELECT COUNT(*) FROM notifications WHERE user_id = ? AND is_read = FALSE";
         Integer count = jdbcTemplate.queryForObject(sql, Integer.class, userId);
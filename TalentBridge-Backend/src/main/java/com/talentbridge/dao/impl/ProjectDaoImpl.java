@@ -1,7 +1,10 @@
 package com.talentbridge.dao.impl;
 
+import com.talentbridge.config.ReplicaRead;
 import com.talentbridge.dao.ProjectDao;
+import com.talentbridge.dao.mapping.ProjectRowMapper;
 import com.talentbridge.model.Project;
+import com.talentbridge.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -19,32 +22,27 @@ public class ProjectDaoImpl implements ProjectDao {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private final RowMapper<Project> projectRowMapper = (rs, rowNum) -> {
-        Project project = new Project();
-        project.setProjectId(rs.getInt("project_id"));
-        project.setName(rs.getString("name"));
-        project.setDescription(rs.getString("description"));
-        project.setStartDate(rs.getDate("start_date") != null ? rs.getDate("start_date").toLocalDate() : null);
-        project.setEndDate(rs.getDate("end_date") != null ? rs.getDate("end_date").toLocalDate() : null);
-        project.setRequiredHeadcount(rs.getInt("required_headcount"));
-        project.setStatus(rs.getString("status"));
-
-        try {
-            project.setCreatedBy(rs.getInt("created_by"));
-        } catch (Exception ignored) {}
-
-        if (rs.getTimestamp("created_at") != null) {
-            project.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        }
-        return project;
-    };
+    private final RowMapper<Project> projectRowMapper = ProjectRowMapper.INSTANCE;
 
     @Override
+    @ReplicaRead
     public List<Project> findAll(int offset, int limit) {
         String sql = "SELECT * FROM projects ORDER BY created_at DESC LIMIT ? OFFSET ?";
         return jdbcTemplate.query(sql, projectRowMapper, limit, offset);
     }
 
+    @Override
+    @ReplicaRead
+    public List<Project> findAllAfter(KeysetCursor after, int limit) {
+        if (after == null) {
+            String sql = "SELECT * FROM projects ORDER BY created_at DESC, project_id DESC LIMIT ?";
+            return jdbcTemplate.query(sql, projectRowMapper, limit);
+        }
+        String sql = "SELECT * FROM projects WHERE (created_at, project_id) < (?, ?) " +
+                     "ORDER BY created_at DESC, project_id DESC LIMIT ?";
+        return jdbcTemplate.query(sql, projectRowMapper, after.getCreatedAt(), after.getId(), limit);
+    }
+
     @Override
     public Project findById(Integer projectId) {
         String sql = "SELECT * FROM projects WHERE project_id = ?";
@@ -108,6 +106,7 @@ public class ProjectDaoImpl implements ProjectDao {
     }
 
     @Override
+    @ReplicaRead
     public int count() {
         return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM projects", Integer.class);
     }
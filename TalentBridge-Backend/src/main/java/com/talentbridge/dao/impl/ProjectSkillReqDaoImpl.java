@@ -2,6 +2,8 @@ package com.talentbridge.dao.impl;
 
 import com.talentbridge.dao.ProjectSkillReqDao;
 import com.talentbridge.model.ProjectSkillReq;
+import com.talentbridge.util.SqlUtil;
+import com.talentbridge.dao.mapping.Columns;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
@@ -19,34 +22,58 @@ public class ProjectSkillReqDaoImpl implements ProjectSkillReqDao {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private final RowMapper<ProjectSkillReq> reqRowMapper = (rs, rowNum) -> {
-        ProjectSkillReq req = new ProjectSkillReq();
-        req.setId(rs.getInt("id"));
-        req.setProjectId(rs.getInt("project_id"));
-        req.setSkillId(rs.getInt("skill_id"));
-        req.setDesiredLevel(rs.getInt("desired_level"));
-
-        Object weightObj = rs.getObject("weight");
-        if (weightObj != null) {
-            req.setWeight(((Number) weightObj).floatValue());
-        } else {
-            req.setWeight(null);
-        }
-
-        try {
-            req.setSkillName(rs.getString("skill_name"));
-        } catch (Exception ignored) {}
+    private static final Columns COLUMNS = new Columns();
+    private static final int ID = COLUMNS.required("id");
+    private static final int PROJECT_ID = COLUMNS.required("project_id");
+    private static final int SKILL_ID = COLUMNS.required("skill_id");
+    private static final int DESIRED_LEVEL = COLUMNS.required("desired_level");
+    private static final int WEIGHT = COLUMNS.required("weight");
+    private static final int SKILL_NAME = COLUMNS.optional("skill_name");
 
+    private final RowMapper<ProjectSkillReq> reqRowMapper = COLUMNS.mapper(row -> {
+        ProjectSkillReq req = new ProjectSkillReq();
+        req.setId(row.getInt(ID));
+        req.setProjectId(row.getInt(PROJECT_ID));
+        req.setSkillId(row.getInt(SKILL_ID));
+        req.setDesiredLevel(row.getInt(DESIRED_LEVEL));
+        req.setWeight(row.getFloat(WEIGHT));
+        req.setSkillName(row.getString(SKILL_NAME));
         return req;
-    };
+    });
 
     @Override
     public List<ProjectSkillReq> findByProjectId(Integer projectId) {
         String sql = "SELECT psr.*, s.name as skill_name FROM project_skill_requirements psr " +
-                     "JOIN skills s ON psr.skill_id = s.skill_id WHERE psr.project_id = ?";
+                     "JOIN skills s ON psr.skill_id = s.skill_id WHERE psr.project_id = ? ORDER BY psr.id";
         return jdbcTemplate.query(sql, reqRowMapper, projectId);
     }
 
+    @Override
+    public List<ProjectSkillReq> findByProjectIds(List<Integer> projectIds) {
+        List<ProjectSkillReq> reqs = new ArrayList<>();
+        for (List<Integer> chunk : SqlUtil.partition(projectIds, SqlUtil.IN_CHUNK_SIZE)) {
+            String sql = "SELECT psr.*, s.name as skill_name FROM project_skill_requirements psr " +
+                         "JOIN skills s ON psr.skill_id = s.skill_id " +
+                         "WHERE psr.project_id IN (" + SqlUtil.placeholders(chunk.size()) + ") " +
+                         "ORDER BY psr.project_id, psr.id";
+            reqs.addAll(jdbcTemplate.query(sql, reqRowMapper, chunk.toArray()));
+        }
+        return reqs;
+    }
+
+    @Override
+    public List<Integer> findProjectIdsBySkillId(Integer skillId) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT project_id FROM project_skill_requirements WHERE skill_id = ?", Integer.class, skillId);
+    }
+
+    @Override
+    public ProjectSkillReq findById(Integer id) {
+        List<ProjectSkillReq> reqs = jdbcTemplate.query(
+                "SELECT * FROM project_skill_requirements WHERE id = ?", reqRowMapper, id);
+        return reqs.isEmpty() ? null : reqs.get(0);
+    }
+
     @Override
     public Integer save(ProjectSkillReq req) {
         String sql = "INSERT INTO project_skill_requirements (project_id, skill_id, desired_level, weight) " +
@@ -2,6 +2,7 @@ package com.talentbridge.dao.impl;
 
 import com.talentbridge.dao.SkillDao;
 import com.talentbridge.model.Skill;
+import com.talentbridge.dao.mapping.Columns;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -18,19 +19,22 @@ public class SkillDaoImpl implements SkillDao {
     @Autowired
     private JdbcTemplate jdbcTemplate;
     
-    private final RowMapper<Skill> skillRowMapper = (rs, rowNum) -> {
+    private static final Columns COLUMNS = new Columns();
+    private static final int SKILL_ID = COLUMNS.required("skill_id");
+    private static final int NAME = COLUMNS.required("name");
+    private static final int CATEGORY = COLUMNS.required("category");
+    private static final int CREATED_AT = COLUMNS.required("created_at");
+    private static final int STRENGTH = COLUMNS.optional("strength");
+
+    private final RowMapper<Skill> skillRowMapper = COLUMNS.mapper(row -> {
         Skill skill = new Skill();
-        skill.setSkillId(rs.getInt("skill_id"));
-        skill.setName(rs.getString("name"));
-        skill.setCategory(rs.getString("category"));
-        skill.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        try {
-            skill.setStrength(rs.getInt("strength"));
-        } catch (Exception e) {
-            skill.setStrength(0);
-        }
+        skill.setSkillId(row.getInt(SKILL_ID));
+        skill.setName(row.getString(NAME));
+        skill.setCategory(row.getString(CATEGORY));
+        skill.setCreatedAt(row.getLocalDateTime(CREATED_AT));
+        skill.setStrength(row.getInt(STRENGTH));
         return skill;
-    };
+    });
     
     @Override
     public List<Skill> findAll() {
@@ -1,6 +1,7 @@
 package com.talentbridge.dao.impl;
 
 import com.talentbridge.dao.TaskDao;
+import com.talentbridge.dao.mapping.TaskRowMapper;
 import com.talentbridge.model.Task;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -19,27 +20,7 @@ public class TaskDaoImpl implements TaskDao {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private final RowMapper<Task> taskRowMapper = (rs, rowNum) -> {
-        Task task = new Task();
-        task.setTaskId(rs.getInt("task_id"));
-        task.setTeamId(rs.getInt("team_id"));
-        task.setAssignedTo(rs.getInt("assigned_to"));
-        task.setCreatedBy(rs.getInt("created_by"));
-        task.setTitle(rs.getString("title"));
-        task.setDescription(rs.getString("description"));
-        task.setStatus(rs.getString("status"));
-        task.setCompletedWork(rs.getString("completed_work"));
-        task.setPendingWork(rs.getString("pending_work"));
-        task.setCreatedAt(rs.getTimestamp("created_at"));
-        task.setUpdatedAt(rs.getTimestamp("updated_at"));
-        
-        // Joined fields
-        try { task.setAssignedToName(rs.getString("assigned_to_name")); } catch (Exception e) {}
-        try { task.setCreatedByName(rs.getString("created_by_name")); } catch (Exception e) {}
-        try { task.setTeamName(rs.getString("team_name")); } catch (Exception e) {}
-        
-        return task;
-    };
+    private final RowMapper<Task> taskRowMapper = TaskRowMapper.INSTANCE;
 
     @Override
     public Integer save(Task task) {
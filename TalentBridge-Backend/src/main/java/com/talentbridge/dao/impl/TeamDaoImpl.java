@@ -1,9 +1,11 @@
 package com.talentbridge.dao.impl;
 
 import com.talentbridge.dao.TeamDao;
+import com.talentbridge.dao.mapping.TeamRowMapper;
 import com.talentbridge.model.Team;
 import com.talentbridge.model.TeamMember;
 import com.talentbridge.model.TeamMessage;
+import com.talentbridge.dao.mapping.Columns;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -21,48 +23,53 @@ public class TeamDaoImpl implements TeamDao {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private final RowMapper<Team> teamRowMapper = (rs, rowNum) -> {
-        Team t = new Team();
-        t.setTeamId(rs.getInt("team_id"));
-        t.setName(rs.getString("name"));
-        t.setProjectId(rs.getInt("project_id"));
-        t.setCreatedBy(rs.getInt("created_by"));
-        t.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        
-        try { t.setProjectName(rs.getString("project_name")); } catch (Exception ignored) {}
-        try { t.setCreatorName(rs.getString("creator_name")); } catch (Exception ignored) {}
-        try { t.setMemberCount(rs.getInt("member_count")); } catch (Exception ignored) {}
-        
-        return t;
-    };
+    private final RowMapper<Team> teamRowMapper = TeamRowMapper.INSTANCE;
 
-    private final RowMapper<TeamMember> memberRowMapper = (rs, rowNum) -> {
+    private static final Columns MEMBER = new Columns();
+    private static final int MEMBER_ID = MEMBER.required("id");
+    private static final int MEMBER_TEAM_ID = MEMBER.required("team_id");
+    private static final int MEMBER_USER_ID = MEMBER.required("user_id");
+    private static final int MEMBER_ROLE = MEMBER.required("role");
+    private static final int MEMBER_USER_NAME = MEMBER.optional("user_name");
+    private static final int MEMBER_USER_EMAIL = MEMBER.optional("user_email");
+    private static final int MEMBER_SYSTEM_ROLE = MEMBER.optional("system_role");
+
+    private final RowMapper<TeamMember> memberRowMapper = MEMBER.mapper(row -> {
         TeamMember m = new TeamMember();
-        m.setId(rs.getInt("id"));
-        m.setTeamId(rs.getInt("team_id"));
-        m.setUserId(rs.getInt("user_id"));
-        m.setRole(rs.getString("role"));
+        m.setId(row.getInt(MEMBER_ID));
+        m.setTeamId(row.getInt(MEMBER_TEAM_ID));
+        m.setUserId(row.getInt(MEMBER_USER_ID));
+        m.setRole(row.getString(MEMBER_ROLE));
         
-        try { m.setUserName(rs.getString("user_name")); } catch (Exception ignored) {}
-        try { m.setUserEmail(rs.getString("user_email")); } catch (Exception ignored) {}
-        try { m.setSystemRole(rs.getString("system_role")); } catch (Exception ignored) {}
+        m.setUserName(row.getString(MEMBER_USER_NAME));
+        m.setUserEmail(row.getString(MEMBER_USER_EMAIL));
+        m.setSystemRole(row.getString(MEMBER_SYSTEM_ROLE));
         
         return m;
-    };
-
-    private final RowMapper<TeamMessage> messageRowMapper = (rs, rowNum) -> {
+    });
+
+    private static final Columns MESSAGE = new Columns();
+    private static final int MESSAGE_ID = MESSAGE.required("message_id");
+    private static final int MESSAGE_TEAM_ID = MESSAGE.required("team_id");
+    private static final int MESSAGE_USER_ID = MESSAGE.required("user_id");
+    private static final int MESSAGE_TEXT = MESSAGE.required("message");
+    private static final int MESSAGE_CREATED_AT = MESSAGE.required("created_at");
+    private static final int MESSAGE_USER_NAME = MESSAGE.optional("user_name");
+    private static final int MESSAGE_USER_ROLE = MESSAGE.optional("user_role");
+
+    private final RowMapper<TeamMessage> messageRowMapper = MESSAGE.mapper(row -> {
         TeamMessage tm = new TeamMessage();
-        tm.setMessageId(rs.getInt("message_id"));
-        tm.setTeamId(rs.getInt("team_id"));
-        tm.setUserId(rs.getInt("user_id"));
-        tm.setMessage(rs.getString("message"));
-        tm.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        tm.setMessageId(row.getInt(MESSAGE_ID));
+        tm.setTeamId(row.getInt(MESSAGE_TEAM_ID));
+        tm.setUserId(row.getInt(MESSAGE_USER_ID));
+        tm.setMessage(row.getString(MESSAGE_TEXT));
+        tm.setCreatedAt(row.getLocalDateTime(MESSAGE_CREATED_AT));
 
-        try { tm.setUserName(rs.getString("user_name")); } catch (Exception ignored) {}
-        try { tm.setUserRole(rs.getString("user_role")); } catch (Exception ignored) {}
+        tm.setUserName(row.getString(MESSAGE_USER_NAME));
+        tm.setUserRole(row.getString(MESSAGE_USER_ROLE));
 
         return tm;
-    };
+    });
 
     @Override
     public Integer saveTeam(Team team) {
@@ -1,7 +1,11 @@
 package com.talentbridge.dao.impl;
 
+import com.talentbridge.config.ReplicaRead;
 import com.talentbridge.dao.UserDao;
+import com.talentbridge.dao.mapping.UserRowMapper;
 import com.talentbridge.model.User;
+import com.talentbridge.util.KeysetCursor;
+import com.talentbridge.util.SqlUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -19,19 +23,7 @@ public class UserDaoImpl implements UserDao {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private final RowMapper<User> userRowMapper = (rs, rowNum) -> {
-        User user = new User();
-        user.setUserId(rs.getInt("user_id"));
-        user.setUsername(rs.getString("username"));
-        user.setFullName(rs.getString("full_name"));
-        user.setEmail(rs.getString("email"));
-        user.setPasswordHash(rs.getString("password_hash"));
-        user.setRole(rs.getString("role"));
-        user.setPhone(rs.getString("phone"));
-        user.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        user.setIsActive(rs.getBoolean("is_active"));
-        return user;
-    };
+    private final RowMapper<User> userRowMapper = UserRowMapper.INSTANCE;
 
     @Override
     public User findByEmail(String email) {
@@ -48,11 +40,28 @@ public class UserDaoImpl implements UserDao {
     }
 
     @Override
+    public List<User> findByIds(List<Integer> userIds) {
+        List<User> users = new ArrayList<>();
+        for (List<Integer> chunk : SqlUtil.partition(userIds, SqlUtil.IN_CHUNK_SIZE)) {
+            String sql = "SELECT * FROM users WHERE user_id IN (" + SqlUtil.placeholders(chunk.size()) + ")";
+            users.addAll(jdbcTemplate.query(sql, userRowMapper, chunk.toArray()));
+        }
+        return users;
+    }
+
+    @Override
+    @ReplicaRead
     public List<User> findAll(int offset, int limit) {
         String sql = "SELECT * FROM users WHERE is_active = TRUE ORDER BY created_at DESC LIMIT ? OFFSET ?";
         return jdbcTemplate.query(sql, userRowMapper, limit, offset);
     }
 
+    @Override
+    @ReplicaRead
+    public List<User> findAllAfter(KeysetCursor after, int limit) {
+        return findByActiveAfter(true, after, limit);
+    }
+
     @Override
     public Integer save(User user) {
         String sql = "INSERT INTO users (username, full_name, email, password_hash, role, phone, is_active) " +
@@ -94,12 +103,14 @@ public class UserDaoImpl implements UserDao {
     }
 
     @Override
+    @ReplicaRead
     public int count() {
         String sql = "SELECT COUNT(*) FROM users";
         return jdbcTemplate.queryForObject(sql, Integer.class);
     }
 
     @Override
+    @ReplicaRead
     public Map<String, Integer> countByRole() {
         String sql = "SELECT role, COUNT(*) as cnt FROM users WHERE is_active = TRUE GROUP BY role";
         List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql);
@@ -112,6 +123,7 @@ public class UserDaoImpl implements UserDao {
     }
 
     @Override
+    @ReplicaRead
     public Map<String, Integer> countByStatus() {
         String sql = "SELECT is_active, COUNT(*) as cnt FROM users GROUP BY is_active";
         List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql);
@@ -129,11 +141,28 @@ public class UserDaoImpl implements UserDao {
     }
 
     @Override
+    @ReplicaRead
     public List<User> findInactive(int offset, int limit) {
         String sql = "SELECT * FROM users WHERE is_active = FALSE ORDER BY created_at DESC LIMIT ? OFFSET ?";
         return jdbcTemplate.query(sql, userRowMapper, limit, offset);
     }
 
+    @Override
+    @ReplicaRead
+    public List<User> findInactiveAfter(KeysetCursor after, int limit) {
+        return findByActiveAfter(false, after, limit);
+    }
+
+    private List<User> findByActiveAfter(boolean active, KeysetCursor after, int limit) {
+        if (after == null) {
+            String sql = "SELECT * FROM users WHERE is_active = ? ORDER BY created_at DESC, user_id DESC LIMIT ?";
+            return jdbcTemplate.query(sql, userRowMapper, active, limit);
+        }
+        String sql = "SELECT * FROM users WHERE is_active = ? AND (created_at, user_id) < (?, ?) " +
+                     "ORDER BY created_at DESC, user_id DESC LIMIT ?";
+        return jdbcTemplate.query(sql, userRowMapper, active, after.getCreatedAt(), after.getId(), limit);
+    }
+
     @Override
     public void reactivate(Integer userId) {
         String sql = "UPDATE users SET is_active = TRUE WHERE user_id = ?";
@@ -0,0 +1,25 @@
+package com.talentbridge.dao.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A model field filled from the result column of the given name by a generated row mapper.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.SOURCE)
+@Documented
+public @interface Column {
+
+    /** Result column label. */
+    String value();
+
+    /** Selected only by some queries; when absent the field is left as it is. */
+    boolean optional() default false;
+
+    /** Integer and Float fields only: SQL NULL reads as null instead of 0. */
+    boolean nullable() default false;
+}
@@ -0,0 +1,107 @@
+package com.talentbridge.dao.mapping;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The columns a row mapper reads, declared once as slots and resolved to column indexes
+ * once per ResultSet from its metadata. Rows are then read by index, and an optional
+ * column the query did not select (a joined name, a computed count) reads as absent
+ * instead of throwing an exception per row.
+ *
+ * <pre>
+ * private static final Columns COLUMNS = new Columns();
+ * private static final int TEAM_ID = COLUMNS.required("team_id");
+ * private static final int PROJECT_NAME = COLUMNS.optional("project_name");
+ *
+ * private final RowMapper&lt;Team&gt; teamRowMapper = COLUMNS.mapper(row -&gt; { ... });
+ * </pre>
+ */
+public final class Columns {
+
+    private final List<String> names = new ArrayList<>();
+    private final List<Boolean> required = new ArrayList<>();
+
+    /** A column every query of the mapper selects; a query without it fails as before. */
+    public int required(String name) {
+        return add(name, true);
+    }
+
+    /** A column only some queries select. */
+    public int optional(String name) {
+        return add(name, false);
+    }
+
+    private synchronized int add(String name, boolean isRequired) {
+        names.add(name);
+        required.add(isRequired);
+        return names.size() - 1;
+    }
+
+    /**
+     * A thread-safe RowMapper that resolves the columns on the first row of each ResultSet.
+     */
+    public <T> RowMapper<T> mapper(RowReader<T> reader) {
+        return new ColumnRowMapper<>(this, reader);
+    }
+
+    /**
+     * Index of every declared column in the ResultSet, 0 for absent optional ones.
+     * Labels match case-insensitively and the first of duplicate labels wins, as with
+     * lookups by name.
+     */
+    int[] resolve(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        int[] indexes = new int[names.size()];
+        for (int slot = 0; slot < indexes.length; slot++) {
+            String name = names.get(slot);
+            for (int i = 1; i <= columnCount; i++) {
+                if (name.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    indexes[slot] = i;
+                    break;
+                }
+            }
+            if (indexes[slot] == 0 && required.get(slot)) {
+                throw new SQLException("The column name " + name + " was not found in this ResultSet.");
+            }
+        }
+        return indexes;
+    }
+
+    @FunctionalInterface
+    public interface RowReader<T> {
+        T read(Row row) throws SQLException;
+    }
+
+    private static final class ColumnRowMapper<T> implements RowMapper<T> {
+        private final Columns columns;
+        private final RowReader<T> reader;
+
+        /**
+         * The ResultSet seen last with its resolved indexes. Mappers are shared between
+         * threads; one that finds another thread's ResultSet here resolves its own.
+         */
+        private volatile Row last;
+
+        private ColumnRowMapper(Columns columns, RowReader<T> reader) {
+            this.columns = columns;
+            this.reader = reader;
+        }
+
+        @Override
+        public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Row row = last;
+            if (row == null || row.resultSet() != rs) {
+                row = new Row(rs, columns.resolve(rs));
+                last = row;
+            }
+            return reader.read(row);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.talentbridge.dao.mapping;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The current row of a ResultSet, read through the column slots of a {@link Columns}.
+ * Absent optional columns read as null (0 for {@link #getInt} and {@link #getFloatValue}),
+ * like a SQL NULL.
+ */
+public final class Row {
+
+    private final ResultSet rs;
+    private final int[] indexes;
+
+    Row(ResultSet rs, int[] indexes) {
+        this.rs = rs;
+        this.indexes = indexes;
+    }
+
+    ResultSet resultSet() {
+        return rs;
+    }
+
+    /** Whether the query selected this optional column. */
+    public boolean has(int slot) {
+        return indexes[slot] != 0;
+    }
+
+    public int getInt(int slot) throws SQLException {
+        int index = indexes[slot];
+        return index == 0 ? 0 : rs.getInt(index);
+    }
+
+    /** The value, or null when it is SQL NULL or the column is absent. */
+    public Integer getInteger(int slot) throws SQLException {
+        int index = indexes[slot];
+        if (index == 0) {
+            return null;
+        }
+        int value = rs.getInt(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    /** The value, or 0 when it is SQL NULL or the column is absent. */
+    public float getFloatValue(int slot) throws SQLException {
+        int index = indexes[slot];
+        return index == 0 ? 0f : rs.getFloat(index);
+    }
+
+    /** The value, or null when it is SQL NULL or the column is absent. */
+    public Float getFloat(int slot) throws SQLException {
+        int index = indexes[slot];
+        if (index == 0) {
+            return null;
+        }
+        float value = rs.getFloat(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    public boolean getBoolean(int slot) throws SQLException {
+        int index = indexes[slot];
+        return index != 0 && rs.getBoolean(index);
+    }
+
+    public String getString(int slot) throws SQLException {
+        int index = indexes[slot];
+        return index == 0 ? null : rs.getString(index);
+    }
+
+    public Timestamp getTimestamp(int slot) throws SQLException {
+        int index = indexes[slot];
+        return index == 0 ? null : rs.getTimestamp(index);
+    }
+
+    public LocalDateTime getLocalDateTime(int slot) throws SQLException {
+        Timestamp value = getTimestamp(slot);
+        return value != null ? value.toLocalDateTime() : null;
+    }
+
+    public LocalDate getLocalDate(int slot) throws SQLException {
+        int index = indexes[slot];
+        Date value = index == 0 ? null : rs.getDate(index);
+        return value != null ? value.toLocalDate() : null;
+    }
+}
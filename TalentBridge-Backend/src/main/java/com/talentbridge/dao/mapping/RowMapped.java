@@ -0,0 +1,18 @@
+package com.talentbridge.dao.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates {@code com.talentbridge.dao.mapping.<Model>RowMapper} at compile time from the
+ * model's {@link Column} fields. The model needs a public no-arg constructor and a setter
+ * per column.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+@Documented
+public @interface RowMapped {
+}
@@ -0,0 +1,246 @@
+package com.talentbridge.dao.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes a RowMapper for every {@code @RowMapped} model: its {@code @Column} fields become
+ * {@code Columns} slots, resolved to indexes once per ResultSet, and plain setter calls.
+ * The generated code uses no reflection.
+ *
+ * Compiled ahead of the rest of the module by its own compiler execution (see pom.xml)
+ * and found by javac through META-INF/services. It reads the annotations by name, so it
+ * does not depend on the classes it processes.
+ */
+@SupportedAnnotationTypes(RowMapperProcessor.ROW_MAPPED)
+public class RowMapperProcessor extends AbstractProcessor {
+
+    static final String ROW_MAPPED = "com.talentbridge.dao.mapping.RowMapped";
+    private static final String COLUMN = "com.talentbridge.dao.mapping.Column";
+    private static final String TARGET_PACKAGE = "com.talentbridge.dao.mapping";
+
+    /**
+     * Field type to the Row accessor that reads it; SQL NULL reads as 0, false or null, so
+     * boxed numbers are only null when the column is declared nullable (handled separately).
+     */
+    private static final Map<String, String> READERS = Map.of(
+            "java.lang.Integer", "getInt",
+            "int", "getInt",
+            "java.lang.String", "getString",
+            "java.lang.Boolean", "getBoolean",
+            "boolean", "getBoolean",
+            "java.lang.Float", "getFloatValue",
+            "float", "getFloatValue",
+            "java.time.LocalDateTime", "getLocalDateTime",
+            "java.time.LocalDate", "getLocalDate",
+            "java.sql.Timestamp", "getTimestamp");
+
+    private Filer filer;
+    private Messager messager;
+    private Types types;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        filer = processingEnv.getFiler();
+        messager = processingEnv.getMessager();
+        types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "@RowMapped applies to classes only", element);
+                    continue;
+                }
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement model) {
+        List<MappedColumn> columns = new ArrayList<>();
+        Map<String, List<ExecutableElement>> methods = new HashMap<>();
+        boolean noArgConstructor = false;
+
+        for (ExecutableElement method : ElementFilter.methodsIn(model.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.PUBLIC) && method.getParameters().size() == 1) {
+                methods.computeIfAbsent(method.getSimpleName().toString(), k -> new ArrayList<>()).add(method);
+            }
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(model.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty()) {
+                noArgConstructor = true;
+            }
+        }
+        if (!noArgConstructor) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@RowMapped class needs a public no-arg constructor", model);
+            return;
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(model.getEnclosedElements())) {
+            AnnotationMirror column = columnAnnotation(field);
+            if (column == null) {
+                continue;
+            }
+            MappedColumn mapped = new MappedColumn(field, column);
+            List<ExecutableElement> setters = methods.getOrDefault(mapped.setter, List.of());
+            if (setters.isEmpty()) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "No public " + mapped.setter + "(...) for column "
+                        + mapped.name, field);
+                return;
+            }
+            if (setters.stream().noneMatch(setter ->
+                    types.isAssignable(field.asType(), setter.getParameters().get(0).asType()))) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "No public " + mapped.setter + "(...) taking "
+                        + field.asType() + " for column " + mapped.name + ", found " + mapped.setter + "("
+                        + setters.get(0).getParameters().get(0).asType() + ")", field);
+                return;
+            }
+            if (mapped.reader == null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Unsupported column type " + field.asType()
+                        + (mapped.nullable ? " for a nullable column" : ""), field);
+                return;
+            }
+            columns.add(mapped);
+        }
+
+        try {
+            write(model, columns);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write row mapper: " + e.getMessage(), model);
+        }
+    }
+
+    private void write(TypeElement model, List<MappedColumn> columns) throws IOException {
+        String modelName = model.getQualifiedName().toString();
+        String simpleName = model.getSimpleName().toString();
+        String mapperName = simpleName + "RowMapper";
+
+        JavaFileObject file = filer.createSourceFile(TARGET_PACKAGE + "." + mapperName, model);
+        try (Writer out = file.openWriter()) {
+            out.write("package " + TARGET_PACKAGE + ";\n\n");
+            out.write("import " + modelName + ";\n");
+            out.write("import org.springframework.jdbc.core.RowMapper;\n\n");
+            out.write("import javax.annotation.processing.Generated;\n");
+            out.write("import java.sql.ResultSet;\n");
+            out.write("import java.sql.SQLException;\n\n");
+            out.write("/**\n * Maps rows to {@link " + simpleName + "} from its {@code @Column} fields.\n */\n");
+            out.write("@Generated(\"" + RowMapperProcessor.class.getName() + "\")\n");
+            out.write("public final class " + mapperName + " implements RowMapper<" + simpleName + "> {\n\n");
+
+            out.write("    private static final Columns COLUMNS = new Columns();\n");
+            for (MappedColumn column : columns) {
+                out.write("    private static final int " + column.constant + " = COLUMNS."
+                        + (column.optional ? "optional" : "required") + "(\"" + column.name + "\");\n");
+            }
+            out.write("\n    private static final RowMapper<" + simpleName + "> MAPPER = COLUMNS.mapper("
+                    + mapperName + "::read);\n\n");
+            out.write("    public static final " + mapperName + " INSTANCE = new " + mapperName + "();\n\n");
+            out.write("    private " + mapperName + "() {}\n\n");
+
+            out.write("    @Override\n");
+            out.write("    public " + simpleName + " mapRow(ResultSet rs, int rowNum) throws SQLException {\n");
+            out.write("        return MAPPER.mapRow(rs, rowNum);\n");
+            out.write("    }\n\n");
+
+            out.write("    private static " + simpleName + " read(Row row) throws SQLException {\n");
+            out.write("        " + simpleName + " entity = new " + simpleName + "();\n");
+            for (MappedColumn column : columns) {
+                String assignment = "entity." + column.setter + "(row." + column.reader + "(" + column.constant + "));";
+                if (column.optional) {
+                    out.write("        if (row.has(" + column.constant + ")) {\n");
+                    out.write("            " + assignment + "\n");
+                    out.write("        }\n");
+                } else {
+                    out.write("        " + assignment + "\n");
+                }
+            }
+            out.write("        return entity;\n");
+            out.write("    }\n");
+            out.write("}\n");
+        }
+    }
+
+    private static AnnotationMirror columnAnnotation(Element field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(COLUMN)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static final class MappedColumn {
+        private final String name;
+        private final String constant;
+        private final String setter;
+        private final String reader;
+        private final boolean optional;
+        private final boolean nullable;
+
+        private MappedColumn(VariableElement field, AnnotationMirror column) {
+            String value = null;
+            boolean isOptional = false;
+            boolean isNullable = false;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : column.getElementValues().entrySet()) {
+                String key = entry.getKey().getSimpleName().toString();
+                Object v = entry.getValue().getValue();
+                switch (key) {
+                    case "value" -> value = (String) v;
+                    case "optional" -> isOptional = (Boolean) v;
+                    case "nullable" -> isNullable = (Boolean) v;
+                    default -> { }
+                }
+            }
+            String fieldName = field.getSimpleName().toString();
+            String type = field.asType().toString();
+
+            this.name = value;
+            this.constant = value.toUpperCase(Locale.ROOT);
+            this.setter = "set" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+            this.optional = isOptional;
+            this.nullable = isNullable;
+            if (isNullable) {
+                this.reader = type.equals("java.lang.Integer") ? "getInteger"
+                        : type.equals("java.lang.Float") ? "getFloat" : null;
+            } else {
+                this.reader = READERS.get(type);
+            }
+        }
+    }
+}
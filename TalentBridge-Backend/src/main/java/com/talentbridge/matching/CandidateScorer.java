@@ -0,0 +1,243 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.dao.AssignmentDao;
+import com.talentbridge.dao.EmployeeAvailabilityDao;
+import com.talentbridge.model.Assignment;
+import com.talentbridge.model.MatchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Scores employees from the skill index against one project's requirements.
+ * Shared by match runs and the materialized candidate scores so both rank alike.
+ */
+@Component
+public class CandidateScorer {
+
+    /**
+     * Candidates whose assignments and availability are fetched together. Kept small
+     * so the top-K cut-off tightens early and pruning starts after the first chunk.
+     */
+    private static final int SCORING_CHUNK_SIZE = 200;
+
+    /** Candidates whose levels are laid out side by side for one skill-score kernel call. */
+    private static final int KERNEL_BLOCK_SIZE = 1024;
+
+    @Value("${match.scoring.parallel-threshold:2000}")
+    private int parallelThreshold;
+
+    @Autowired
+    private AssignmentDao assignmentDao;
+
+    @Autowired
+    private EmployeeAvailabilityDao employeeAvailabilityDao;
+
+    @Autowired
+    private ForkJoinPool matchScoringPool;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SkillScoreKernel skillScoreKernel;
+
+    /**
+     * Scores a candidate pool taken from the in-memory skill index.
+     * Skills come from the index; active assignments and availability are loaded in bulk,
+     * one chunk of candidates at a time. Candidates already assigned to the project are
+     * left out. Each result is handed to the sink as soon as it is scored.
+     *
+     * Skill scores are computed first and candidates visited in descending order of the
+     * best total they could still reach. Anyone whose bound is below the cutoff is skipped
+     * before the experience score and the assignment/availability queries, and once the
+     * skill-only bound falls below it the rest of the pool is dropped.
+     */
+    public void score(List<EmployeeSkillIndex.Profile> candidates, Integer projectId,
+                      ProjectRequirements requirements, DoubleSupplier cutoff, Consumer<MatchResult> sink) {
+        score(candidates, projectId, requirements, cutoff, null, sink);
+    }
+
+    /**
+     * As above, with assignments and availability taken from a workload loaded up front
+     * (for runs that score many projects over the same employees). A null workload is
+     * loaded per chunk.
+     */
+    public void score(List<EmployeeSkillIndex.Profile> candidates, Integer projectId,
+                      ProjectRequirements requirements, DoubleSupplier cutoff, Workload workload,
+                      Consumer<MatchResult> sink) {
+        score(candidates, skillScores(candidates, requirements), projectId, requirements, cutoff, workload, sink);
+    }
+
+    /**
+     * As above, reusing skill scores the caller already computed with {@link #skillScores}.
+     * A null projectId excludes nobody.
+     */
+    public void score(List<EmployeeSkillIndex.Profile> candidates, float[] skillScores, Integer projectId,
+                      ProjectRequirements requirements, DoubleSupplier cutoff, Workload workload,
+                      Consumer<MatchResult> sink) {
+        int n = candidates.size();
+        if (n == 0) {
+            return;
+        }
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        // Highest bound first; candidates arrive in ascending user id, so the sort is stable on ties
+        Arrays.sort(order, (a, b) -> Float.compare(skillScores[b], skillScores[a]));
+
+        List<EmployeeSkillIndex.Profile> chunk = new ArrayList<>();
+        List<float[]> chunkScores = new ArrayList<>();
+        int pruned = 0;
+
+        for (int pos = 0; pos < n; pos++) {
+            int i = order[pos];
+            double cut = cutoff.getAsDouble();
+            if (MatchScorer.upperBound(skillScores[i]) < cut) {
+                pruned += n - pos;
+                break;
+            }
+
+            EmployeeSkillIndex.Profile candidate = candidates.get(i);
+            float experienceScore = MatchScorer.experienceScore(requirements,
+                    candidate.getSkillCount(), candidate.getAverageYears());
+            if (MatchScorer.upperBound(skillScores[i], experienceScore) < cut) {
+                pruned++;
+                continue;
+            }
+
+            chunk.add(candidate);
+            chunkScores.add(new float[]{skillScores[i], experienceScore});
+            if (chunk.size() >= SCORING_CHUNK_SIZE) {
+                scoreChunk(chunk, chunkScores, projectId, workload, sink);
+            }
+        }
+        scoreChunk(chunk, chunkScores, projectId, workload, sink);
+
+        if (pruned > 0) {
+            meterRegistry.counter("talentbridge.match.pruned").increment(pruned);
+        }
+    }
+
+    /**
+     * Skill scores of every candidate, computed by the kernel one block at a time. Blocks
+     * run on the scoring pool once the pool is large enough to pay for the fork; each
+     * block writes only its own slots, so the outcome is the same as the sequential loop.
+     */
+    public float[] skillScores(List<EmployeeSkillIndex.Profile> candidates, ProjectRequirements requirements) {
+        int n = candidates.size();
+        float[] skillScores = new float[n];
+        int blocks = (n + KERNEL_BLOCK_SIZE - 1) / KERNEL_BLOCK_SIZE;
+        IntConsumer scoreBlock = block -> {
+            int from = block * KERNEL_BLOCK_SIZE;
+            int count = Math.min(KERNEL_BLOCK_SIZE, n - from);
+            float[][] levels = new float[requirements.size()][count];
+            for (int c = 0; c < count; c++) {
+                EmployeeSkillIndex.Profile candidate = candidates.get(from + c);
+                for (int i = 0; i < requirements.size(); i++) {
+                    levels[i][c] = candidate.levelOf(requirements.skillId(i));
+                }
+            }
+            skillScoreKernel.skillScores(requirements, levels, count, skillScores, from);
+        };
+
+        if (n < parallelThreshold || matchScoringPool.getParallelism() < 2) {
+            for (int block = 0; block < blocks; block++) {
+                scoreBlock.accept(block);
+            }
+        } else {
+            matchScoringPool.submit(() -> IntStream.range(0, blocks).parallel().forEach(scoreBlock)).join();
+        }
+        return skillScores;
+    }
+
+    /**
+     * Active assignments and current availability of the given users, two bulk queries.
+     */
+    public Workload loadWorkload(List<Integer> userIds) {
+        Map<Integer, List<Assignment>> assignmentsByUser = assignmentDao.findByUserIds(userIds).stream()
+                .collect(Collectors.groupingBy(Assignment::getUserId));
+
+        // Availability only matters for users that are currently assigned somewhere
+        Map<Integer, Integer> availabilityByUser =
+                employeeAvailabilityDao.findCurrentPercentAvailable(new ArrayList<>(assignmentsByUser.keySet()));
+
+        return new Workload(assignmentsByUser, availabilityByUser);
+    }
+
+    private void scoreChunk(List<EmployeeSkillIndex.Profile> chunk, List<float[]> chunkScores, Integer projectId,
+                            Workload preloaded, Consumer<MatchResult> sink) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Workload workload = preloaded != null
+                ? preloaded
+                : loadWorkload(chunk.stream().map(EmployeeSkillIndex.Profile::getUserId).collect(Collectors.toList()));
+
+        for (int i = 0; i < chunk.size(); i++) {
+            EmployeeSkillIndex.Profile candidate = chunk.get(i);
+            List<Assignment> currentAssignments = workload.assignmentsOf(candidate.getUserId());
+
+            boolean assignedToProject = projectId != null && currentAssignments.stream()
+                    .anyMatch(a -> projectId.equals(a.getProjectId()));
+            if (assignedToProject) {
+                continue;
+            }
+
+            float availabilityScore = MatchScorer.availabilityScore(!currentAssignments.isEmpty(),
+                    workload.percentAvailable(candidate.getUserId()));
+
+            sink.accept(toResult(candidate.getUserId(), candidate.getFullName(), candidate.getEmail(),
+                    chunkScores.get(i)[0], chunkScores.get(i)[1], availabilityScore));
+        }
+
+        chunk.clear();
+        chunkScores.clear();
+    }
+
+    public static MatchResult toResult(Integer userId, String fullName, String email,
+                                       float skillScore, float experienceScore, float availabilityScore) {
+        MatchResult result = new MatchResult();
+        result.setUserId(userId);
+        result.setSkillScore(skillScore);
+        result.setExperienceScore(experienceScore);
+        result.setAvailabilityScore(availabilityScore);
+        result.setTotalScore(MatchScorer.totalScore(skillScore, experienceScore, availabilityScore));
+        result.setEmployeeName(fullName);
+        result.setEmployeeEmail(email);
+        return result;
+    }
+
+    /**
+     * Active assignments and current availability per user.
+     */
+    public static final class Workload {
+        private final Map<Integer, List<Assignment>> assignmentsByUser;
+        private final Map<Integer, Integer> availabilityByUser;
+
+        private Workload(Map<Integer, List<Assignment>> assignmentsByUser, Map<Integer, Integer> availabilityByUser) {
+            this.assignmentsByUser = assignmentsByUser;
+            this.availabilityByUser = availabilityByUser;
+        }
+
+        public List<Assignment> assignmentsOf(int userId) {
+            return assignmentsByUser.getOrDefault(userId, Collections.emptyList());
+        }
+
+        public Integer percentAvailable(int userId) {
+            return availabilityByUser.get(userId);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.dao.EmployeeSkillDao;
+import com.talentbridge.dao.UserDao;
+import com.talentbridge.model.EmployeeSkill;
+import com.talentbridge.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Resident index of active EMPLOYEE users and their skills.
+ *
+ * Each employee is held as a {@link Profile} of sorted primitive arrays, and each skill_id
+ * maps to a sorted int[] posting list of the employees holding it, so candidate retrieval
+ * for a match run never touches the database. The index loads lazily on first use, is
+ * refreshed per user by the services that change skills or user status, and is fully
+ * reloaded on a schedule to pick up anything changed outside those paths.
+ *
+ * Profiles and postings are published together as one immutable {@link Snapshot}, so a
+ * reader never sees a posting for a profile that is not there yet, and the version only
+ * moves when a reload or refresh actually changed something.
+ */
+@Component
+public class EmployeeSkillIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSkillIndex.class);
+
+    private static final int[] EMPTY = new int[0];
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private EmployeeSkillDao employeeSkillDao;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Employees holding at least one of the given skills, in ascending user id order.
+     */
+    public List<Profile> findCandidates(Collection<Integer> skillIds) {
+        Snapshot current = ensureLoaded();
+
+        BitSet userIds = new BitSet();
+        for (Integer skillId : skillIds) {
+            for (int userId : current.postings.getOrDefault(skillId, EMPTY)) {
+                userIds.set(userId);
+            }
+        }
+
+        List<Profile> candidates = new ArrayList<>(userIds.cardinality());
+        for (int userId = userIds.nextSetBit(0); userId >= 0; userId = userIds.nextSetBit(userId + 1)) {
+            Profile profile = current.profiles.get(userId);
+            if (profile != null) {
+                candidates.add(profile);
+            }
+        }
+        return candidates;
+    }
+
+    public Profile getProfile(Integer userId) {
+        return ensureLoaded().profiles.get(userId);
+    }
+
+    public Collection<Profile> getProfiles() {
+        return Collections.unmodifiableCollection(ensureLoaded().profiles.values());
+    }
+
+    public int[] getUsersWithSkill(Integer skillId) {
+        return ensureLoaded().postings.getOrDefault(skillId, EMPTY).clone();
+    }
+
+    /**
+     * Incremented whenever the indexed profiles change, so callers can tell whether the
+     * skill data moved; 0 until the first load.
+     */
+    public long getVersion() {
+        Snapshot current = snapshot;
+        return current != null ? current.version : 0;
+    }
+
+    /**
+     * Re-reads one user's status and skills. Inside a transaction the refresh runs
+     * after commit, so a rolled-back change never reaches the index.
+     */
+    public void refreshUser(Integer userId) {
+        refreshUsers(Collections.singletonList(userId));
+    }
+
+    public void refreshUsers(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Integer> ids = new ArrayList<>(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyRefresh(ids);
+                }
+            });
+        } else {
+            applyRefresh(ids);
+        }
+    }
+
+    public synchronized void reload() {
+        Map<Integer, User> employees = userDao.findByRole("EMPLOYEE").stream()
+                .collect(Collectors.toMap(User::getUserId, u -> u));
+
+        Map<Integer, List<EmployeeSkill>> skillsByUser = employeeSkillDao.findAll().stream()
+                .filter(es -> employees.containsKey(es.getUserId()))
+                .collect(Collectors.groupingBy(EmployeeSkill::getUserId));
+
+        Map<Integer, Profile> newProfiles = new HashMap<>();
+        Map<Integer, List<Integer>> userLists = new HashMap<>();
+
+        for (User user : employees.values()) {
+            Profile profile = new Profile(user, skillsByUser.getOrDefault(user.getUserId(), Collections.emptyList()));
+            newProfiles.put(profile.userId, profile);
+            for (int skillId : profile.skillIds) {
+                userLists.computeIfAbsent(skillId, k -> new ArrayList<>()).add(profile.userId);
+            }
+        }
+
+        Snapshot previous = snapshot;
+        if (previous != null && sameProfiles(previous.profiles, newProfiles)) {
+            logger.debug("Employee skill index reloaded: no changes");
+            return;
+        }
+
+        Map<Integer, int[]> newPostings = new HashMap<>();
+        userLists.forEach((skillId, users) -> newPostings.put(skillId,
+                users.stream().mapToInt(Integer::intValue).sorted().toArray()));
+
+        snapshot = new Snapshot(newProfiles, newPostings, previous != null ? previous.version + 1 : 1);
+        logger.info("Employee skill index loaded: {} employees, {} skills", newProfiles.size(), newPostings.size());
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    private Snapshot ensureLoaded() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private synchronized void applyRefresh(List<Integer> userIds) {
+        Snapshot previousSnapshot = snapshot;
+        if (previousSnapshot == null) {
+            return; // the first lookup will load everything anyway
+        }
+
+        Map<Integer, User> users = userDao.findByIds(userIds).stream()
+                .filter(u -> "EMPLOYEE".equals(u.getRole()) && Boolean.TRUE.equals(u.getIsActive()))
+                .collect(Collectors.toMap(User::getUserId, u -> u));
+
+        Map<Integer, List<EmployeeSkill>> skillsByUser = users.isEmpty()
+                ? Collections.emptyMap()
+                : employeeSkillDao.findByUserIds(new ArrayList<>(users.keySet())).stream()
+                        .collect(Collectors.groupingBy(EmployeeSkill::getUserId));
+
+        // Copy on write: readers keep the old snapshot until the new one is complete
+        Map<Integer, Profile> profiles = null;
+        Map<Integer, int[]> postings = null;
+
+        for (Integer userId : userIds) {
+            Profile previous = (profiles != null ? profiles : previousSnapshot.profiles).get(userId);
+            User user = users.get(userId);
+            Profile current = user != null
+                    ? new Profile(user, skillsByUser.getOrDefault(userId, Collections.emptyList()))
+                    : null;
+            if (current == null ? previous == null : current.sameAs(previous)) {
+                continue;
+            }
+            if (profiles == null) {
+                profiles = new HashMap<>(previousSnapshot.profiles);
+                postings = new HashMap<>(previousSnapshot.postings);
+            }
+
+            int[] oldSkills = previous != null ? previous.skillIds : EMPTY;
+            int[] newSkills = current != null ? current.skillIds : EMPTY;
+
+            for (int skillId : oldSkills) {
+                if (Arrays.binarySearch(newSkills, skillId) < 0) {
+                    postings.computeIfPresent(skillId, (k, list) -> {
+                        int[] updated = remove(list, userId);
+                        return updated.length == 0 ? null : updated;
+                    });
+                }
+            }
+            for (int skillId : newSkills) {
+                if (Arrays.binarySearch(oldSkills, skillId) < 0) {
+                    postings.merge(skillId, new int[]{userId}, (list, ignored) -> insert(list, userId));
+                }
+            }
+
+            if (current != null) {
+                profiles.put(userId, current);
+            } else {
+                profiles.remove(userId);
+            }
+        }
+
+        if (profiles != null) {
+            snapshot = new Snapshot(profiles, postings, previousSnapshot.version + 1);
+        }
+    }
+
+    private static boolean sameProfiles(Map<Integer, Profile> a, Map<Integer, Profile> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (Map.Entry<Integer, Profile> entry : b.entrySet()) {
+            if (!entry.getValue().sameAs(a.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] insert(int[] sorted, int value) {
+        int pos = Arrays.binarySearch(sorted, value);
+        if (pos >= 0) {
+            return sorted;
+        }
+        pos = -pos - 1;
+        int[] updated = new int[sorted.length + 1];
+        System.arraycopy(sorted, 0, updated, 0, pos);
+        updated[pos] = value;
+        System.arraycopy(sorted, pos, updated, pos + 1, sorted.length - pos);
+        return updated;
+    }
+
+    private static int[] remove(int[] sorted, int value) {
+        int pos = Arrays.binarySearch(sorted, value);
+        if (pos < 0) {
+            return sorted;
+        }
+        int[] updated = new int[sorted.length - 1];
+        System.arraycopy(sorted, 0, updated, 0, pos);
+        System.arraycopy(sorted, pos + 1, updated, pos, sorted.length - pos - 1);
+        return updated;
+    }
+
+    /**
+     * Profiles by user id and sorted posting lists by skill id, never mutated once published.
+     * Postings are derived from the profiles, so equal profiles mean an equal index.
+     */
+    private static final class Snapshot {
+        private final Map<Integer, Profile> profiles;
+        private final Map<Integer, int[]> postings;
+        private final long version;
+
+        Snapshot(Map<Integer, Profile> profiles, Map<Integer, int[]> postings, long version) {
+            this.profiles = profiles;
+            this.postings = postings;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Immutable snapshot of one employee: skill ids sorted ascending with levels,
+     * years of experience and last-used year (0 when unknown) in matching positions.
+     */
+    public static final class Profile implements MatchScorer.SkillLevels {
+        private final int userId;
+        private final String fullName;
+        private final String email;
+        private final int[] skillIds;
+        private final int[] levels;
+        private final int[] yearsExperience;
+        private final int[] lastUsedYears;
+        private final double averageYears;
+
+        Profile(User user, List<EmployeeSkill> skills) {
+            this.userId = user.getUserId();
+            this.fullName = user.getFullName();
+            this.email = user.getEmail();
+
+            List<EmployeeSkill> sorted = new ArrayList<>(skills);
+            sorted.sort(Comparator.comparing(EmployeeSkill::getSkillId));
+
+            int n = sorted.size();
+            this.skillIds = new int[n];
+            this.levels = new int[n];
+            this.yearsExperience = new int[n];
+            this.lastUsedYears = new int[n];
+
+            long totalYears = 0;
+            for (int i = 0; i < n; i++) {
+                EmployeeSkill es = sorted.get(i);
+                skillIds[i] = es.getSkillId();
+                levels[i] = es.getLevel();
+                yearsExperience[i] = es.getYearsExperience();
+                lastUsedYears[i] = es.getLastUsedYear() != null ? es.getLastUsedYear() : 0;
+                totalYears += yearsExperience[i];
+            }
+            this.averageYears = MatchScorer.averageYears(totalYears, n);
+        }
+
+        /**
+         * Builds a profile straight from database rows, outside the index.
+         */
+        public static Profile of(User user, List<EmployeeSkill> skills) {
+            return new Profile(user, skills);
+        }
+
+        /**
+         * True when the other profile holds the same user, contact details and skill rows.
+         */
+        boolean sameAs(Profile other) {
+            return other != null
+                    && userId == other.userId
+                    && Objects.equals(fullName, other.fullName)
+                    && Objects.equals(email, other.email)
+                    && Arrays.equals(skillIds, other.skillIds)
+                    && Arrays.equals(levels, other.levels)
+                    && Arrays.equals(yearsExperience, other.yearsExperience)
+                    && Arrays.equals(lastUsedYears, other.lastUsedYears);
+        }
+
+        @Override
+        public int levelOf(int skillId) {
+            int pos = Arrays.binarySearch(skillIds, skillId);
+            return pos >= 0 ? levels[pos] : 0;
+        }
+
+        public int getUserId() { return userId; }
+
+        public String getFullName() { return fullName; }
+
+        public String getEmail() { return email; }
+
+        public int getSkillCount() { return skillIds.length; }
+
+        public int skillId(int i) { return skillIds[i]; }
+
+        public int level(int i) { return levels[i]; }
+
+        public int yearsExperience(int i) { return yearsExperience[i]; }
+
+        public int lastUsedYear(int i) { return lastUsedYears[i]; }
+
+        public double getAverageYears() { return averageYears; }
+    }
+}
@@ -0,0 +1,86 @@
+package com.talentbridge.matching;
+
+import java.util.Arrays;
+
+/**
+ * Minimum-cost assignment of rows to distinct columns (Hungarian algorithm with
+ * potentials, O(rows^2 * cols)) on primitive arrays.
+ *
+ * Rows are grouped: every row of a group shares one cost row, so a project needing
+ * five people is five rows over a single {@code double[]} of per-employee costs.
+ */
+public final class HungarianSolver {
+
+    private HungarianSolver() {}
+
+    /**
+     * @param groupCosts cost of each column for each group, all of length {@code cols}
+     * @param rowGroup   group of each row; there must be no more rows than columns
+     * @return the column assigned to each row
+     */
+    public static int[] solve(double[][] groupCosts, int[] rowGroup, int cols) {
+        int n = rowGroup.length;
+        int m = cols;
+        if (n > m) {
+            throw new IllegalArgumentException("More rows (" + n + ") than columns (" + m + ")");
+        }
+
+        // 1-based as in the textbook formulation; index 0 is the virtual start column
+        double[] u = new double[n + 1];
+        double[] v = new double[m + 1];
+        int[] p = new int[m + 1];
+        int[] way = new int[m + 1];
+        double[] minv = new double[m + 1];
+        boolean[] used = new boolean[m + 1];
+
+        for (int i = 1; i <= n; i++) {
+            p[0] = i;
+            int j0 = 0;
+            Arrays.fill(minv, Double.POSITIVE_INFINITY);
+            Arrays.fill(used, false);
+            do {
+                used[j0] = true;
+                int i0 = p[j0];
+                double[] row = groupCosts[rowGroup[i0 - 1]];
+                double ui0 = u[i0];
+                double delta = Double.POSITIVE_INFINITY;
+                int j1 = 0;
+                for (int j = 1; j <= m; j++) {
+                    if (!used[j]) {
+                        double cur = row[j - 1] - ui0 - v[j];
+                        if (cur < minv[j]) {
+                            minv[j] = cur;
+                            way[j] = j0;
+                        }
+                        if (minv[j] < delta) {
+                            delta = minv[j];
+                            j1 = j;
+                        }
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (used[j]) {
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minv[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while (p[j0] != 0);
+            do {
+                int j1 = way[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+            } while (j0 != 0);
+        }
+
+        int[] assignment = new int[n];
+        for (int j = 1; j <= m; j++) {
+            if (p[j] != 0) {
+                assignment[p[j] - 1] = j - 1;
+            }
+        }
+        return assignment;
+    }
+}
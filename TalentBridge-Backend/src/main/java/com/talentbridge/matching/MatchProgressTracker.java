@@ -0,0 +1,273 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.model.MatchProgress;
+import com.talentbridge.model.MatchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Live progress of match runs in this instance, pushed to Server-Sent Events subscribers.
+ *
+ * A run is tracked from the moment its matches row is created until it completes or fails.
+ * Progress snapshots are throttled to one per match.progress.interval-ms and are only built
+ * while someone is subscribed, so untracked or unwatched runs pay nothing. A run finishing
+ * inside a transaction is reported after commit, and as FAILED if it rolls back. Events
+ * are written by the progress executor, never by the thread running the match.
+ */
+@Component
+public class MatchProgressTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchProgressTracker.class);
+
+    /** Leading results included in each snapshot. */
+    public static final int TOP_SIZE = 5;
+
+    @Value("${match.progress.interval-ms:500}")
+    private long intervalMs;
+
+    @Value("${match.progress.sse-timeout-ms:600000}")
+    private long sseTimeoutMs;
+
+    @Autowired
+    @Qualifier("progressExecutor")
+    private TaskExecutor progressExecutor;
+
+    private final Map<Integer, Run> runs = new ConcurrentHashMap<>();
+
+    public void start(Integer matchId) {
+        runs.put(matchId, new Run(matchId));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        publishFinish(matchId, "FAILED");
+                    }
+                }
+            });
+        }
+    }
+
+    public void candidatesFound(Integer matchId, int count) {
+        Run run = runs.get(matchId);
+        if (run != null) {
+            run.update(progress -> {
+                progress.setStatus("RUNNING");
+                progress.setCandidatesFound(count);
+            }, true);
+        }
+    }
+
+    /**
+     * True when a subscriber is waiting and the last snapshot is older than the interval;
+     * lets callers skip building the top list otherwise.
+     */
+    public boolean isDue(Integer matchId) {
+        Run run = runs.get(matchId);
+        return run != null && run.isDue(intervalMs * 1_000_000);
+    }
+
+    public void progress(Integer matchId, int scored, int persisted, Supplier<List<MatchResult>> top) {
+        Run run = runs.get(matchId);
+        if (run != null) {
+            run.update(progress -> {
+                progress.setScored(scored);
+                progress.setPersisted(persisted);
+                progress.setTop(top.get());
+            }, false);
+        }
+    }
+
+    /**
+     * Sends the final status and closes every subscription; after commit when called
+     * inside a transaction.
+     */
+    public void finish(Integer matchId, String status) {
+        if (!runs.containsKey(matchId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishFinish(matchId, status);
+                }
+            });
+        } else {
+            publishFinish(matchId, status);
+        }
+    }
+
+    /**
+     * Subscribes to a run still in progress, starting with its latest snapshot, or returns
+     * null when this instance is not tracking the run.
+     */
+    public SseEmitter subscribe(Integer matchId) {
+        Run run = runs.get(matchId);
+        if (run == null) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        return run.subscribe(emitter) ? emitter : null;
+    }
+
+    /**
+     * A one-shot feed for a run that is already over: the given snapshot, then close.
+     */
+    public SseEmitter finished(MatchProgress progress) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        try {
+            emitter.send(event(progress));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    private void publishFinish(Integer matchId, String status) {
+        Run run = runs.remove(matchId);
+        if (run != null) {
+            run.finish(status);
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder event(MatchProgress progress) {
+        return SseEmitter.event().name("progress").data(progress);
+    }
+
+    private static MatchProgress copy(MatchProgress progress) {
+        MatchProgress copy = new MatchProgress();
+        copy.setMatchId(progress.getMatchId());
+        copy.setStatus(progress.getStatus());
+        copy.setCandidatesFound(progress.getCandidatesFound());
+        copy.setScored(progress.getScored());
+        copy.setPersisted(progress.getPersisted());
+        copy.setTop(progress.getTop());
+        return copy;
+    }
+
+    /**
+     * The state of one run. Updates only record the latest snapshot under the run's lock
+     * and schedule a drain on the progress executor, which writes it to the subscribers;
+     * the scoring thread never writes to a client. One drain per run at a time keeps the
+     * events in order, and snapshots superseded while a drain is busy are skipped.
+     */
+    private final class Run {
+        private final MatchProgress progress = new MatchProgress();
+        /** Emitter callbacks remove themselves without taking the run's lock. */
+        private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+        private long lastSentNanos;
+        private boolean finished;
+        private boolean dirty;
+        private boolean draining;
+
+        private Run(Integer matchId) {
+            progress.setMatchId(matchId);
+            progress.setStatus("PENDING");
+            progress.setTop(Collections.emptyList());
+        }
+
+        synchronized boolean isDue(long intervalNanos) {
+            return !subscribers.isEmpty() && System.nanoTime() - lastSentNanos >= intervalNanos;
+        }
+
+        synchronized void update(Consumer<MatchProgress> change, boolean force) {
+            change.accept(progress);
+            if (force || !subscribers.isEmpty()) {
+                lastSentNanos = System.nanoTime();
+                schedule();
+            }
+        }
+
+        synchronized boolean subscribe(SseEmitter emitter) {
+            if (finished) {
+                return false;
+            }
+            emitter.onCompletion(() -> subscribers.remove(emitter));
+            emitter.onTimeout(() -> subscribers.remove(emitter));
+            emitter.onError(e -> subscribers.remove(emitter));
+            subscribers.add(emitter);
+            // Everyone gets the current snapshot again, the newcomer for the first time
+            schedule();
+            return true;
+        }
+
+        synchronized void finish(String status) {
+            finished = true;
+            progress.setStatus(status);
+            schedule();
+        }
+
+        /** Called holding the lock. */
+        private void schedule() {
+            dirty = true;
+            if (draining) {
+                return;
+            }
+            draining = true;
+            try {
+                progressExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                draining = false;
+                logger.debug("Skipping progress event of match {}: {}", progress.getMatchId(), e.getMessage());
+                if (finished) {
+                    // Closing does not write to the client; subscribers must not wait for the timeout
+                    subscribers.forEach(SseEmitter::complete);
+                    subscribers.clear();
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                MatchProgress snapshot;
+                boolean last;
+                synchronized (this) {
+                    if (!dirty) {
+                        draining = false;
+                        return;
+                    }
+                    dirty = false;
+                    snapshot = copy(progress);
+                    last = finished;
+                }
+                for (SseEmitter emitter : subscribers) {
+                    send(emitter, snapshot);
+                }
+                if (last) {
+                    for (SseEmitter emitter : subscribers) {
+                        emitter.complete();
+                    }
+                    subscribers.clear();
+                }
+            }
+        }
+
+        private void send(SseEmitter emitter, MatchProgress snapshot) {
+            try {
+                emitter.send(event(snapshot));
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; drop it and keep the run going
+                logger.debug("Dropping progress subscriber of match {}: {}", snapshot.getMatchId(), e.getMessage());
+                subscribers.remove(emitter);
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.dao.MatchDao;
+import com.talentbridge.model.MatchResult;
+import com.talentbridge.model.ProjectSkillReq;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Ranked results of the latest full match run per project, tagged with a {@link Stamp}
+ * of the inputs they were computed from. A repeat search whose stamp is unchanged is
+ * answered from here and reuses the earlier match_id instead of scoring and writing
+ * identical match_results again. Least recently used projects are evicted first.
+ */
+@Component
+public class MatchResultCache {
+
+    @Value("${match.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${match.cache.max-projects:200}")
+    private int maxProjects;
+
+    @Value("${match.cache.depth:500}")
+    private int depth;
+
+    @Autowired
+    private MatchDao matchDao;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<Integer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * How many of the best results each entry keeps.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    public synchronized Entry get(Integer projectId, Stamp stamp) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(projectId);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.stamp.equals(stamp)) {
+            entries.remove(projectId);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Stores a completed run. Inside a transaction the entry is only published after
+     * commit, so a rolled-back match_id is never handed out.
+     *
+     * @param ranked   best results first, at most {@link #getDepth()} of them
+     * @param complete whether {@code ranked} holds every scored candidate
+     */
+    public void put(Integer projectId, Stamp stamp, Integer matchId, List<MatchResult> ranked, boolean complete) {
+        if (!enabled) {
+            return;
+        }
+        Entry entry = new Entry(stamp, matchId, Collections.unmodifiableList(ranked), complete);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(projectId, entry);
+                }
+            });
+        } else {
+            store(projectId, entry);
+        }
+    }
+
+    /**
+     * Called by writers of assignments or availability. The input version is bumped once
+     * the writer's transaction has committed, in a transaction of its own, so writers
+     * never hold the counter row's lock: a run that reads the old version after the
+     * commit caches results that the bump invalidates moments later.
+     */
+    public void inputsChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpInputVersion();
+                }
+            });
+        } else {
+            bumpInputVersion();
+        }
+    }
+
+    private void bumpInputVersion() {
+        // The committed transaction's connection is still bound during afterCommit
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.executeWithoutResult(status -> matchDao.bumpInputVersion());
+    }
+
+    public synchronized void evict(Integer projectId) {
+        entries.remove(projectId);
+    }
+
+    private synchronized void store(Integer projectId, Entry entry) {
+        entries.put(projectId, entry);
+        while (entries.size() > maxProjects) {
+            Integer eldest = entries.keySet().iterator().next();
+            entries.remove(eldest);
+        }
+    }
+
+    /**
+     * Version of every input a run reads: the project's requirement rows, the employee
+     * skill index version, the version of assignments and availability, and the date
+     * (which decides the current availability window).
+     */
+    public static final class Stamp {
+        private final String requirementsKey;
+        private final long indexVersion;
+        private final long inputVersion;
+        private final LocalDate date;
+
+        public Stamp(List<ProjectSkillReq> requirements, long indexVersion, long inputVersion, LocalDate date) {
+            StringBuilder key = new StringBuilder();
+            for (ProjectSkillReq req : requirements) {
+                key.append(req.getSkillId()).append(':').append(req.getDesiredLevel())
+                        .append(':').append(req.getWeight()).append(';');
+            }
+            this.requirementsKey = key.toString();
+            this.indexVersion = indexVersion;
+            this.inputVersion = inputVersion;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Stamp)) return false;
+            Stamp other = (Stamp) o;
+            return requirementsKey.equals(other.requirementsKey)
+                    && indexVersion == other.indexVersion
+                    && inputVersion == other.inputVersion
+                    && date.equals(other.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(requirementsKey, indexVersion, inputVersion, date);
+        }
+    }
+
+    public static final class Entry {
+        private final Stamp stamp;
+        private final Integer matchId;
+        private final List<MatchResult> ranked;
+        private final boolean complete;
+
+        private Entry(Stamp stamp, Integer matchId, List<MatchResult> ranked, boolean complete) {
+            this.stamp = stamp;
+            this.matchId = matchId;
+            this.ranked = ranked;
+            this.complete = complete;
+        }
+
+        public Integer getMatchId() { return matchId; }
+
+        public List<MatchResult> getRanked() { return ranked; }
+
+        public boolean isComplete() { return complete; }
+    }
+}
@@ -0,0 +1,190 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.config.WorkloadRoutingDataSource;
+import com.talentbridge.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent match requests and bounds how many runs execute at once.
+ *
+ * Requests with equal keys that arrive while a run for that key is in flight wait for it
+ * and share its outcome (single flight) instead of scoring again, whether each of them
+ * asked for a synchronous or a background run. Every run that does
+ * execute first takes one of match.runs.max-concurrent permits, waiting up to
+ * match.runs.acquire-timeout-ms before the request is turned away.
+ */
+@Component
+public class MatchRunCoordinator {
+
+    private final Semaphore permits;
+
+    @Value("${match.runs.acquire-timeout-ms:30000}")
+    private long acquireTimeoutMs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** Runs in flight by key, synchronous and background alike. */
+    private final Map<Object, Flight> inFlight = new ConcurrentHashMap<>();
+
+    public MatchRunCoordinator(@Value("${match.runs.max-concurrent:4}") int maxConcurrent) {
+        this.permits = new Semaphore(Math.max(1, maxConcurrent), true);
+    }
+
+    /**
+     * Runs the computation unless a run with an equal key is in flight, in which case it
+     * waits for that run: a synchronous one's result (or exception) is returned as is, and
+     * a background one's committed results are read with {@code readBack}. The computation
+     * should only return after its writes are committed, since followers use the result
+     * as is.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T singleFlight(Object key, Supplier<Outcome<T>> run, Function<Integer, T> readBack) {
+        Flight mine = new Flight(false);
+        Flight existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            meterRegistry.counter("talentbridge.match.coalesced").increment();
+            Outcome<?> outcome = await(existing.done);
+            return existing.background ? readBack.apply(outcome.getMatchId()) : (T) outcome.getValue();
+        }
+
+        try {
+            Outcome<T> outcome = withPermit(run);
+            mine.done.complete(outcome);
+            return outcome.getValue();
+        } catch (RuntimeException e) {
+            mine.done.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * The match_id of a queued or running background run with this key, or of a
+     * synchronous one once it has committed; otherwise {@code create} records a new run and
+     * {@code launch} hands it to the executor. The run must call
+     * {@link #backgroundRunFinished} when it is done.
+     */
+    public Integer joinBackgroundRun(Object key, Supplier<Integer> create, Consumer<Integer> launch) {
+        Flight mine = new Flight(true);
+        Flight existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            meterRegistry.counter("talentbridge.match.coalesced").increment();
+            // A synchronous run's match is only visible to other requests once committed
+            return existing.background ? await(existing.matchId) : await(existing.done).getMatchId();
+        }
+
+        // Created and launched outside the map, so other keys never wait on the database
+        Integer matchId;
+        try {
+            matchId = create.get();
+        } catch (RuntimeException e) {
+            abandon(key, mine, e);
+            throw e;
+        }
+        mine.matchId.complete(matchId);
+        try {
+            launch.accept(matchId);
+        } catch (RuntimeException e) {
+            abandon(key, mine, e);
+            throw e;
+        }
+        return matchId;
+    }
+
+    /**
+     * Ends a background run, releasing whoever waits for it; {@code completed} is false
+     * when it failed.
+     */
+    public void backgroundRunFinished(Object key, Integer matchId, boolean completed) {
+        Flight flight = inFlight.get(key);
+        if (flight == null || !flight.background || !matchId.equals(flight.matchId.getNow(null))) {
+            return;
+        }
+        inFlight.remove(key, flight);
+        if (completed) {
+            flight.done.complete(new Outcome<>(matchId, null));
+        } else {
+            flight.done.completeExceptionally(new CustomException("Match " + matchId + " failed"));
+        }
+    }
+
+    private void abandon(Object key, Flight flight, RuntimeException e) {
+        inFlight.remove(key, flight);
+        flight.matchId.completeExceptionally(e);
+        flight.done.completeExceptionally(e);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Runs the computation holding one of the concurrent-run permits, with connections
+     * from the match pool.
+     */
+    public <T> T withPermit(Supplier<T> run) {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new CustomException("Too many match runs in progress, please try again shortly");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException("Interrupted while waiting to start a match run");
+        }
+        try {
+            return WorkloadRoutingDataSource.callAs(WorkloadRoutingDataSource.Workload.MATCH, run);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * What a synchronous run hands to {@link #singleFlight}: its match_id and result.
+     */
+    public static final class Outcome<T> {
+        private final Integer matchId;
+        private final T value;
+
+        public Outcome(Integer matchId, T value) {
+            this.matchId = matchId;
+            this.value = value;
+        }
+
+        public Integer getMatchId() { return matchId; }
+        public T getValue() { return value; }
+    }
+
+    /**
+     * One run in flight. A background run's match_id is known once it is recorded; a
+     * synchronous run's only with its outcome, since other requests cannot see its
+     * transaction until it commits.
+     */
+    private static final class Flight {
+        private final boolean background;
+        private final CompletableFuture<Integer> matchId = new CompletableFuture<>();
+        private final CompletableFuture<Outcome<?>> done = new CompletableFuture<>();
+
+        private Flight(boolean background) {
+            this.background = background;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.talentbridge.matching;
+
+/**
+ * Scoring formulas shared by every match path.
+ * Total = skill * 0.6 + experience * 0.3 + availability * 0.1, each component on a 0-100 scale.
+ */
+public final class MatchScorer {
+
+    public static final float SKILL_WEIGHT = 0.6f;
+    public static final float EXPERIENCE_WEIGHT = 0.3f;
+    public static final float AVAILABILITY_WEIGHT = 0.1f;
+
+    /** Every component is capped at this value. */
+    public static final float MAX_COMPONENT_SCORE = 100;
+
+    /** Skill level lookup; 0 means the employee does not have the skill. */
+    @FunctionalInterface
+    public interface SkillLevels {
+        int levelOf(int skillId);
+    }
+
+    private MatchScorer() {}
+
+    /**
+     * Calculate skill match score
+     * For each required skill:
+     * - If employee level >= required level: full points (weight * 100)
+     * - If employee level < required level: partial points (employeeLevel/requiredLevel * weight * 100)
+     * - If skill missing: 0 points
+     */
+    public static float skillScore(ProjectRequirements requirements, SkillLevels employeeSkills) {
+        float totalScore = 0;
+
+        for (int i = 0; i < requirements.size(); i++) {
+            int empLevel = employeeSkills.levelOf(requirements.skillId(i));
+            // If skill missing, add 0 points
+            totalScore += skillPoints(requirements.weight(i), empLevel, requirements.desiredLevel(i));
+        }
+
+        return normalizeSkillScore(totalScore, requirements.getTotalWeight());
+    }
+
+    /**
+     * Points one requirement contributes before normalization.
+     */
+    public static float skillPoints(float weight, int empLevel, int reqLevel) {
+        if (empLevel <= 0) {
+            return 0;
+        }
+        if (empLevel >= reqLevel) {
+            // Employee meets or exceeds requirement
+            return weight * 100;
+        }
+        // Partial credit for lower level
+        float ratio = (float) empLevel / reqLevel;
+        return ratio * weight * 100;
+    }
+
+    /**
+     * Normalize summed skill points to 100.
+     */
+    public static float normalizeSkillScore(float totalPoints, float totalWeight) {
+        if (totalWeight > 0) {
+            return totalPoints / totalWeight;
+        }
+        return 0;
+    }
+
+    /**
+     * Calculate experience score based on years of experience
+     * Takes the average years of experience across all employee skills
+     * Compares with typical requirement (assume 3-5 years for mid-level projects)
+     */
+    public static float experienceScore(ProjectRequirements requirements, int skillCount, double avgExperience) {
+        if (skillCount == 0) {
+            return 0;
+        }
+
+        // Assume required experience based on desired level
+        // Level 1-2: 0-2 years, Level 3: 3-5 years, Level 4-5: 5+ years
+        int maxDesiredLevel = requirements.getMaxDesiredLevel();
+
+        float requiredExperience;
+        if (maxDesiredLevel <= 2) {
+            requiredExperience = 2;
+        } else if (maxDesiredLevel == 3) {
+            requiredExperience = 5;
+        } else {
+            requiredExperience = 7;
+        }
+
+        // Calculate score (cap at 100)
+        float score = (float) ((avgExperience / requiredExperience) * 100);
+        return Math.min(score, 100);
+    }
+
+    /**
+     * Calculate availability score
+     * Users without current assignments are fully available; otherwise the latest
+     * employee_availability window applies, defaulting to 50% when none is recorded.
+     */
+    public static float availabilityScore(boolean hasAssignments, Integer percentAvailable) {
+        if (!hasAssignments) {
+            return 100; // Fully available
+        }
+
+        if (percentAvailable != null) {
+            return percentAvailable.floatValue();
+        }
+
+        // Default: if assigned to projects, assume 50% available
+        return 50;
+    }
+
+    public static float totalScore(float skillScore, float experienceScore, float availabilityScore) {
+        return (skillScore * SKILL_WEIGHT) + (experienceScore * EXPERIENCE_WEIGHT)
+                + (availabilityScore * AVAILABILITY_WEIGHT);
+    }
+
+    /**
+     * Best total a candidate with this skill score can reach, before experience
+     * and availability are known. Float rounding is monotonic, so the bound is never
+     * below the total computed later.
+     */
+    public static float upperBound(float skillScore) {
+        return totalScore(skillScore, MAX_COMPONENT_SCORE, MAX_COMPONENT_SCORE);
+    }
+
+    /**
+     * Best total reachable once skill and experience are known; only availability is open.
+     */
+    public static float upperBound(float skillScore, float experienceScore) {
+        return totalScore(skillScore, experienceScore, MAX_COMPONENT_SCORE);
+    }
+
+    /**
+     * Average years of experience, computed the same way as IntStream.average()
+     * so in-memory profiles and DAO-loaded skills produce identical scores.
+     */
+    public static double averageYears(long totalYears, int skillCount) {
+        return skillCount > 0 ? (double) totalYears / skillCount : 0;
+    }
+}
@@ -0,0 +1,213 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.dao.ProjectDao;
+import com.talentbridge.dao.ProjectSkillReqDao;
+import com.talentbridge.model.Project;
+import com.talentbridge.model.ProjectSkillReq;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Resident inverted index from skill_id to the OPEN projects requiring it, with the
+ * requirement's position in that project's {@link ProjectRequirements}.
+ *
+ * Reverse matching walks an employee's skills once, touching only the projects that
+ * share a skill with them, instead of loading every project's requirements. Like
+ * {@link EmployeeSkillIndex} it loads lazily, is refreshed per project by the services
+ * that change requirements or project status, and is reloaded on a schedule.
+ */
+@Component
+public class ProjectRequirementIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectRequirementIndex.class);
+
+    private static final Posting[] NO_POSTINGS = new Posting[0];
+
+    @Autowired
+    private ProjectDao projectDao;
+
+    @Autowired
+    private ProjectSkillReqDao projectSkillReqDao;
+
+    /** Replaced wholesale on every change, so readers always see one consistent state. */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Skill score of the employee against every OPEN project sharing at least one skill
+     * with them. Points are summed in requirement order, so the scores are identical to
+     * {@link MatchScorer#skillScore}.
+     */
+    public void matchSkills(EmployeeSkillIndex.Profile profile, SkillMatchConsumer consumer) {
+        Snapshot current = ensureLoaded();
+
+        Map<OpenProject, float[]> points = new HashMap<>();
+        for (int i = 0; i < profile.getSkillCount(); i++) {
+            int level = profile.level(i);
+            for (Posting posting : current.postings.getOrDefault(profile.skillId(i), NO_POSTINGS)) {
+                ProjectRequirements reqs = posting.project.requirements;
+                points.computeIfAbsent(posting.project, p -> new float[reqs.size()])[posting.position] =
+                        MatchScorer.skillPoints(reqs.weight(posting.position), level,
+                                reqs.desiredLevel(posting.position));
+            }
+        }
+
+        points.forEach((project, projectPoints) -> {
+            float total = 0;
+            for (float p : projectPoints) {
+                total += p;
+            }
+            consumer.accept(project, MatchScorer.normalizeSkillScore(total, project.requirements.getTotalWeight()));
+        });
+    }
+
+    public int getProjectCount() {
+        return ensureLoaded().projects.size();
+    }
+
+    /**
+     * Re-reads the given projects. Inside a transaction the refresh runs after commit.
+     */
+    public void refreshProjects(Collection<Integer> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        List<Integer> ids = new ArrayList<>(projectIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyRefresh(ids);
+                }
+            });
+        } else {
+            applyRefresh(ids);
+        }
+    }
+
+    public void refreshProject(Integer projectId) {
+        refreshProjects(Collections.singletonList(projectId));
+    }
+
+    public synchronized void reload() {
+        Map<Integer, Project> open = projectDao.findByStatus("OPEN").stream()
+                .collect(Collectors.toMap(Project::getProjectId, p -> p));
+        Map<Integer, OpenProject> projects = build(open, loadRequirements(open.keySet()));
+        snapshot = new Snapshot(projects);
+        logger.info("Project requirement index loaded: {} open projects", projects.size());
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    private Snapshot ensureLoaded() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private synchronized void applyRefresh(List<Integer> projectIds) {
+        if (snapshot == null) {
+            return; // the first lookup will load everything anyway
+        }
+
+        Map<Integer, Project> open = new HashMap<>();
+        for (Integer projectId : projectIds) {
+            Project project = projectDao.findById(projectId);
+            if (project != null && "OPEN".equals(project.getStatus())) {
+                open.put(projectId, project);
+            }
+        }
+
+        Map<Integer, OpenProject> projects = new HashMap<>(snapshot.projects);
+        projects.keySet().removeAll(projectIds);
+        projects.putAll(build(open, loadRequirements(open.keySet())));
+        snapshot = new Snapshot(projects);
+    }
+
+    private Map<Integer, List<ProjectSkillReq>> loadRequirements(Set<Integer> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return projectSkillReqDao.findByProjectIds(new ArrayList<>(projectIds)).stream()
+                .collect(Collectors.groupingBy(ProjectSkillReq::getProjectId));
+    }
+
+    private static Map<Integer, OpenProject> build(Map<Integer, Project> projects,
+                                                   Map<Integer, List<ProjectSkillReq>> requirements) {
+        Map<Integer, OpenProject> built = new HashMap<>();
+        projects.forEach((projectId, project) -> {
+            List<ProjectSkillReq> reqs = requirements.get(projectId);
+            if (reqs != null && !reqs.isEmpty()) {
+                built.put(projectId, new OpenProject(projectId, project.getName(), ProjectRequirements.of(reqs)));
+            }
+        });
+        return built;
+    }
+
+    @FunctionalInterface
+    public interface SkillMatchConsumer {
+        void accept(OpenProject project, float skillScore);
+    }
+
+    public static final class OpenProject {
+        private final int projectId;
+        private final String name;
+        private final ProjectRequirements requirements;
+
+        private OpenProject(int projectId, String name, ProjectRequirements requirements) {
+            this.projectId = projectId;
+            this.name = name;
+            this.requirements = requirements;
+        }
+
+        public int getProjectId() { return projectId; }
+
+        public String getName() { return name; }
+
+        public ProjectRequirements getRequirements() { return requirements; }
+    }
+
+    private static final class Posting {
+        private final OpenProject project;
+        private final int position;
+
+        private Posting(OpenProject project, int position) {
+            this.project = project;
+            this.position = position;
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<Integer, OpenProject> projects;
+        private final Map<Integer, Posting[]> postings;
+
+        private Snapshot(Map<Integer, OpenProject> projects) {
+            this.projects = projects;
+
+            Map<Integer, List<Posting>> bySkill = new HashMap<>();
+            for (OpenProject project : projects.values()) {
+                ProjectRequirements reqs = project.requirements;
+                for (int i = 0; i < reqs.size(); i++) {
+                    bySkill.computeIfAbsent(reqs.skillId(i), k -> new ArrayList<>()).add(new Posting(project, i));
+                }
+            }
+            this.postings = new HashMap<>();
+            bySkill.forEach((skillId, list) -> postings.put(skillId, list.toArray(NO_POSTINGS)));
+        }
+    }
+}
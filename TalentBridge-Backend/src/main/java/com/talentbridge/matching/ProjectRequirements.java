@@ -0,0 +1,63 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.model.ProjectSkillReq;
+
+import java.util.List;
+
+/**
+ * A project's skill requirements flattened into parallel primitive arrays,
+ * compiled once per match run and shared by every candidate being scored.
+ */
+public final class ProjectRequirements {
+
+    private final int[] skillIds;
+    private final int[] desiredLevels;
+    private final float[] weights;
+    private final float totalWeight;
+    private final int maxDesiredLevel;
+
+    private ProjectRequirements(int[] skillIds, int[] desiredLevels, float[] weights,
+                                float totalWeight, int maxDesiredLevel) {
+        this.skillIds = skillIds;
+        this.desiredLevels = desiredLevels;
+        this.weights = weights;
+        this.totalWeight = totalWeight;
+        this.maxDesiredLevel = maxDesiredLevel;
+    }
+
+    public static ProjectRequirements of(List<ProjectSkillReq> requirements) {
+        int n = requirements.size();
+        int[] skillIds = new int[n];
+        int[] desiredLevels = new int[n];
+        float[] weights = new float[n];
+
+        // Accumulated in requirement order so the float sum matches the per-user scorer
+        float totalWeight = 0;
+        int maxDesiredLevel = n == 0 ? 3 : Integer.MIN_VALUE;
+
+        for (int i = 0; i < n; i++) {
+            ProjectSkillReq req = requirements.get(i);
+            skillIds[i] = req.getSkillId();
+            desiredLevels[i] = req.getDesiredLevel();
+            weights[i] = req.getWeight() != null ? req.getWeight() : 1.0f;
+            totalWeight += weights[i];
+            maxDesiredLevel = Math.max(maxDesiredLevel, desiredLevels[i]);
+        }
+
+        return new ProjectRequirements(skillIds, desiredLevels, weights, totalWeight, maxDesiredLevel);
+    }
+
+    public int size() { return skillIds.length; }
+
+    public int skillId(int i) { return skillIds[i]; }
+
+    public int desiredLevel(int i) { return desiredLevels[i]; }
+
+    public float weight(int i) { return weights[i]; }
+
+    public float getTotalWeight() { return totalWeight; }
+
+    public int getMaxDesiredLevel() { return maxDesiredLevel; }
+
+    public int[] getSkillIds() { return skillIds.clone(); }
+}
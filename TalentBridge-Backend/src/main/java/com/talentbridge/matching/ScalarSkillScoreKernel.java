@@ -0,0 +1,33 @@
+package com.talentbridge.matching;
+
+/**
+ * One candidate at a time, through {@link MatchScorer#skillPoints}.
+ */
+public class ScalarSkillScoreKernel implements SkillScoreKernel {
+
+    @Override
+    public void skillScores(ProjectRequirements requirements, float[][] levels, int count, float[] scores, int offset) {
+        scoreRange(requirements, levels, 0, count, scores, offset);
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    /**
+     * Scores candidates {@code from} (inclusive) to {@code to} (exclusive); also used for
+     * the tail the vector kernel leaves over.
+     */
+    static void scoreRange(ProjectRequirements requirements, float[][] levels, int from, int to,
+                           float[] scores, int offset) {
+        for (int c = from; c < to; c++) {
+            float totalPoints = 0;
+            for (int i = 0; i < requirements.size(); i++) {
+                totalPoints += MatchScorer.skillPoints(requirements.weight(i), (int) levels[i][c],
+                        requirements.desiredLevel(i));
+            }
+            scores[offset + c] = MatchScorer.normalizeSkillScore(totalPoints, requirements.getTotalWeight());
+        }
+    }
+}
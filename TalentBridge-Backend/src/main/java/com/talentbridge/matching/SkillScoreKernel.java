@@ -0,0 +1,38 @@
+package com.talentbridge.matching;
+
+/**
+ * Skill scores of a block of candidates against one project's requirements.
+ *
+ * Levels are laid out requirement-major: {@code levels[i][c]} is candidate c's level in
+ * requirement i's skill, 0 when they do not have it. Each candidate's points are summed
+ * in requirement order, so every implementation returns the same floats as
+ * {@link MatchScorer#skillScore}.
+ */
+public interface SkillScoreKernel {
+
+    /**
+     * @param levels requirement-major levels, at least {@code count} per requirement
+     * @param count  candidates in the block
+     * @param scores receives the skill score of candidate c at {@code offset + c}
+     */
+    void skillScores(ProjectRequirements requirements, float[][] levels, int count, float[] scores, int offset);
+
+    String getName();
+
+    /**
+     * The SIMD kernel when requested and the jdk.incubator.vector module is present
+     * (the JVM was started with {@code --add-modules jdk.incubator.vector}), otherwise
+     * the scalar loop. The vector class is only loaded once the module is known to exist.
+     */
+    static SkillScoreKernel create(boolean preferVector) {
+        if (preferVector && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (SkillScoreKernel) Class.forName("com.talentbridge.matching.VectorSkillScoreKernel")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // fall back to the scalar kernel below
+            }
+        }
+        return new ScalarSkillScoreKernel();
+    }
+}
@@ -0,0 +1,215 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.model.SimilarEmployee;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.*;
+
+/**
+ * Employees as unit-length sparse skill vectors, for cosine similarity between profiles.
+ *
+ * Each skill's component is level x recency, where recency halves every
+ * {@code match.similar.recency-half-life-years} since last_used_year (a skill with no
+ * last-used year counts as current). Vectors are normalized when the index is built, so
+ * similarity is a plain dot product, accumulated through per-skill posting lists over only
+ * the employees that share a skill with the target.
+ *
+ * The index is derived from {@link EmployeeSkillIndex} and rebuilt on the next lookup
+ * whenever that index's version or the calendar year has moved.
+ */
+@Component
+public class SkillVectorIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillVectorIndex.class);
+
+    private static final Comparator<SimilarEmployee> RANKING = Comparator
+            .comparing(SimilarEmployee::getSimilarity, Comparator.reverseOrder())
+            .thenComparing(SimilarEmployee::getUserId);
+
+    @Value("${match.similar.recency-half-life-years:3}")
+    private double recencyHalfLifeYears;
+
+    @Autowired
+    private EmployeeSkillIndex employeeSkillIndex;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * The {@code limit} indexed employees most similar to the given profile, best first.
+     * The profile may come from outside the index (e.g. an employee who has left); its own
+     * user id is never returned.
+     */
+    public List<SimilarEmployee> findSimilar(EmployeeSkillIndex.Profile target, int limit) {
+        Snapshot current = currentSnapshot();
+        int currentYear = current.year;
+
+        float[] query = normalizedWeights(target, currentYear);
+        if (query == null) {
+            return Collections.emptyList();
+        }
+
+        float[] dots = new float[current.userIds.length];
+        int[] shared = new int[current.userIds.length];
+        int[] touched = new int[current.userIds.length];
+        int touchedCount = 0;
+
+        for (int i = 0; i < target.getSkillCount(); i++) {
+            Posting posting = current.postings.get(target.skillId(i));
+            if (posting == null) {
+                continue;
+            }
+            for (int k = 0; k < posting.rows.length; k++) {
+                int row = posting.rows[k];
+                if (shared[row]++ == 0) {
+                    touched[touchedCount++] = row;
+                }
+                dots[row] += query[i] * posting.weights[k];
+            }
+        }
+
+        TopKCollector<SimilarEmployee> ranking = new TopKCollector<>(limit, RANKING);
+        for (int t = 0; t < touchedCount; t++) {
+            int row = touched[t];
+            if (current.userIds[row] == target.getUserId()) {
+                continue;
+            }
+            EmployeeSkillIndex.Profile profile = current.profiles[row];
+            SimilarEmployee similar = new SimilarEmployee();
+            similar.setUserId(profile.getUserId());
+            similar.setEmployeeName(profile.getFullName());
+            similar.setEmployeeEmail(profile.getEmail());
+            // Rounding can push identical profiles a hair past 1
+            similar.setSimilarity(Math.min(dots[row], 1f));
+            similar.setSharedSkills(shared[row]);
+            ranking.offer(similar);
+        }
+        return ranking.toSortedList();
+    }
+
+    /**
+     * The version is read before the profiles, so a change landing mid-build leaves the
+     * snapshot one version behind and the next lookup rebuilds it.
+     */
+    private Snapshot currentSnapshot() {
+        long version = employeeSkillIndex.getVersion();
+        int year = Year.now().getValue();
+        Snapshot current = snapshot;
+        if (current == null || current.version != version || current.year != year) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || current.version != version || current.year != year) {
+                    current = build(version, year);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Snapshot build(long version, int year) {
+        long start = System.nanoTime();
+        List<EmployeeSkillIndex.Profile> profiles = new ArrayList<>(employeeSkillIndex.getProfiles());
+        profiles.sort(Comparator.comparingInt(EmployeeSkillIndex.Profile::getUserId));
+
+        int n = profiles.size();
+        int[] userIds = new int[n];
+        float[][] rowWeights = new float[n][];
+        Map<Integer, Integer> postingSizes = new HashMap<>();
+        for (int row = 0; row < n; row++) {
+            EmployeeSkillIndex.Profile profile = profiles.get(row);
+            userIds[row] = profile.getUserId();
+            rowWeights[row] = normalizedWeights(profile, year);
+            if (rowWeights[row] != null) {
+                for (int i = 0; i < profile.getSkillCount(); i++) {
+                    postingSizes.merge(profile.skillId(i), 1, Integer::sum);
+                }
+            }
+        }
+
+        Map<Integer, Posting> postings = new HashMap<>();
+        postingSizes.forEach((skillId, size) -> postings.put(skillId, new Posting(size)));
+        for (int row = 0; row < n; row++) {
+            if (rowWeights[row] == null) {
+                continue;
+            }
+            EmployeeSkillIndex.Profile profile = profiles.get(row);
+            for (int i = 0; i < profile.getSkillCount(); i++) {
+                postings.get(profile.skillId(i)).add(row, rowWeights[row][i]);
+            }
+        }
+
+        logger.info("Skill vector index built: {} employees, {} skills in {} ms", n, postings.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return new Snapshot(version, year, userIds, profiles.toArray(new EmployeeSkillIndex.Profile[0]), postings);
+    }
+
+    /**
+     * Level x recency per skill, scaled to unit length; null for a profile with no weight.
+     */
+    private float[] normalizedWeights(EmployeeSkillIndex.Profile profile, int currentYear) {
+        int n = profile.getSkillCount();
+        float[] weights = new float[n];
+        double sumOfSquares = 0;
+        for (int i = 0; i < n; i++) {
+            double weight = profile.level(i) * recency(profile.lastUsedYear(i), currentYear);
+            weights[i] = (float) weight;
+            sumOfSquares += weight * weight;
+        }
+        if (sumOfSquares == 0) {
+            return null;
+        }
+        double norm = Math.sqrt(sumOfSquares);
+        for (int i = 0; i < n; i++) {
+            weights[i] = (float) (weights[i] / norm);
+        }
+        return weights;
+    }
+
+    private double recency(int lastUsedYear, int currentYear) {
+        if (lastUsedYear <= 0 || recencyHalfLifeYears <= 0) {
+            return 1;
+        }
+        int yearsSince = Math.max(0, currentYear - lastUsedYear);
+        return Math.pow(0.5, yearsSince / recencyHalfLifeYears);
+    }
+
+    /** Rows holding one skill, ascending, with that skill's normalized component. */
+    private static final class Posting {
+        private final int[] rows;
+        private final float[] weights;
+        private int size;
+
+        private Posting(int capacity) {
+            this.rows = new int[capacity];
+            this.weights = new float[capacity];
+        }
+
+        private void add(int row, float weight) {
+            rows[size] = row;
+            weights[size] = weight;
+            size++;
+        }
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final int year;
+        private final int[] userIds;
+        private final EmployeeSkillIndex.Profile[] profiles;
+        private final Map<Integer, Posting> postings;
+
+        private Snapshot(long version, int year, int[] userIds, EmployeeSkillIndex.Profile[] profiles,
+                         Map<Integer, Posting> postings) {
+            this.version = version;
+            this.year = year;
+            this.userIds = userIds;
+            this.profiles = profiles;
+            this.postings = postings;
+        }
+    }
+}
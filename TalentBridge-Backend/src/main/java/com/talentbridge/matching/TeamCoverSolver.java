@@ -0,0 +1,280 @@
+package com.talentbridge.matching;
+
+import java.util.*;
+
+/**
+ * Smallest set of candidates whose coverage bitsets together contain every requirement.
+ *
+ * Each candidate is a bitset of the requirements they meet (one bit per requirement, in
+ * {@code long} words). Candidates whose bitset is contained in an at least as well scored
+ * candidate's are dropped first, a greedy pass gives an initial team, and a depth-first
+ * branch and bound then searches for a smaller one, or an equally small one with a higher
+ * summed score. The search always branches on the first uncovered requirement and is cut
+ * off after a node budget, returning the best team found so far.
+ */
+public final class TeamCoverSolver {
+
+    private TeamCoverSolver() {}
+
+    public static final class Result {
+        private final int[] members;
+        private final long[] uncovered;
+        private final boolean optimal;
+
+        private Result(int[] members, long[] uncovered, boolean optimal) {
+            this.members = members;
+            this.uncovered = uncovered;
+            this.optimal = optimal;
+        }
+
+        /** Indices into the candidate arrays, best score first. */
+        public int[] getMembers() { return members; }
+
+        /** Requirements nobody covers; all zero when the team is complete. */
+        public long[] getUncovered() { return uncovered; }
+
+        /** False when the node budget ran out before the search space was exhausted. */
+        public boolean isOptimal() { return optimal; }
+    }
+
+    /**
+     * @param masks            requirement bitset of each candidate, {@code words(requirements)} longs each
+     * @param scores           tie-break between equally small teams, higher summed score wins
+     * @param requirementCount number of requirement bits
+     * @param nodeBudget       search nodes to explore before settling for the best team so far
+     */
+    public static Result solve(long[][] masks, float[] scores, int requirementCount, int nodeBudget) {
+        int words = words(requirementCount);
+        long[] full = new long[words];
+        for (int bit = 0; bit < requirementCount; bit++) {
+            full[bit >>> 6] |= 1L << bit;
+        }
+
+        int[] kept = dominanceFilter(masks, scores);
+
+        long[] coverable = new long[words];
+        for (int c : kept) {
+            or(coverable, masks[c]);
+        }
+        long[] uncovered = andNot(full, coverable);
+        long[] target = coverable;
+
+        Search search = new Search(masks, scores, kept, target, nodeBudget);
+        search.run();
+
+        int[] members = search.best.clone();
+        Integer[] boxed = Arrays.stream(members).boxed().toArray(Integer[]::new);
+        Arrays.sort(boxed, (a, b) -> Float.compare(scores[b], scores[a]));
+        for (int i = 0; i < members.length; i++) {
+            members[i] = boxed[i];
+        }
+        return new Result(members, uncovered, !search.exhausted);
+    }
+
+    public static int words(int requirementCount) {
+        return Math.max(1, (requirementCount + 63) >>> 6);
+    }
+
+    /**
+     * Keeps, largest coverage first, only candidates whose bitset is not contained in an
+     * already kept one scoring at least as well. Equal bitsets keep the better-scored
+     * candidate; a subset that outscores its superset stays, as it may win a tie-break.
+     */
+    private static int[] dominanceFilter(long[][] masks, float[] scores) {
+        Integer[] order = new Integer[masks.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // Larger coverage first so supersets are kept before their subsets; then score
+        Arrays.sort(order, (a, b) -> {
+            int byCount = Integer.compare(count(masks[b]), count(masks[a]));
+            return byCount != 0 ? byCount : Float.compare(scores[b], scores[a]);
+        });
+
+        List<Integer> kept = new ArrayList<>();
+        for (int c : order) {
+            if (count(masks[c]) == 0) {
+                continue;
+            }
+            boolean dominated = false;
+            for (int k : kept) {
+                if (scores[k] >= scores[c] && isSubset(masks[c], masks[k])) {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) {
+                kept.add(c);
+            }
+        }
+        return kept.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static final class Search {
+        private final long[][] masks;
+        private final float[] scores;
+        private final int[] kept;
+        private final long[] target;
+        private final int maxCover;
+        private final double maxScore;
+        private int nodesLeft;
+        private boolean exhausted;
+
+        private int[] best;
+        private double bestScore;
+        private final int[] stack;
+
+        Search(long[][] masks, float[] scores, int[] kept, long[] target, int nodeBudget) {
+            this.masks = masks;
+            this.scores = scores;
+            this.kept = kept;
+            this.target = target;
+            this.nodesLeft = nodeBudget;
+            int max = 1;
+            double top = 0;
+            for (int c : kept) {
+                max = Math.max(max, count(masks[c]));
+                top = Math.max(top, scores[c]);
+            }
+            this.maxCover = max;
+            this.maxScore = top;
+            this.stack = new int[count(target)];
+        }
+
+        void run() {
+            best = greedy();
+            bestScore = 0;
+            for (int c : best) {
+                bestScore += scores[c];
+            }
+            if (best.length > 1) {
+                branch(target.clone(), 0, 0);
+            }
+        }
+
+        private int[] greedy() {
+            long[] remaining = target.clone();
+            List<Integer> team = new ArrayList<>();
+            while (!isEmpty(remaining)) {
+                int pick = -1;
+                int pickGain = 0;
+                for (int c : kept) {
+                    int gain = countAnd(masks[c], remaining);
+                    if (gain > pickGain || gain == pickGain && gain > 0 && scores[c] > scores[pick]) {
+                        pick = c;
+                        pickGain = gain;
+                    }
+                }
+                team.add(pick);
+                andNotInPlace(remaining, masks[pick]);
+            }
+            return team.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private void branch(long[] remaining, int depth, double score) {
+            if (isEmpty(remaining)) {
+                if (depth < best.length || depth == best.length && score > bestScore) {
+                    best = Arrays.copyOf(stack, depth);
+                    bestScore = score;
+                }
+                return;
+            }
+            // Every further member covers at most maxCover of what is left; a team no smaller
+            // than the best has to be the same size and beat its score with maxScore per slot
+            int lowerBound = depth + (count(remaining) + maxCover - 1) / maxCover;
+            if (lowerBound > best.length
+                    || lowerBound == best.length && score + (best.length - depth) * maxScore <= bestScore) {
+                return;
+            }
+            if (--nodesLeft < 0) {
+                exhausted = true;
+                return;
+            }
+
+            int element = firstSetBit(remaining);
+            List<Integer> options = new ArrayList<>();
+            for (int c : kept) {
+                if ((masks[c][element >>> 6] & (1L << element)) != 0) {
+                    options.add(c);
+                }
+            }
+            // Most new coverage first finds small teams early and tightens the bound;
+            // then best score first, so the first cover of a size tends to be the best one
+            options.sort((a, b) -> {
+                int byGain = Integer.compare(countAnd(masks[b], remaining), countAnd(masks[a], remaining));
+                return byGain != 0 ? byGain : Float.compare(scores[b], scores[a]);
+            });
+
+            for (int c : options) {
+                if (exhausted) {
+                    return;
+                }
+                stack[depth] = c;
+                long[] next = remaining.clone();
+                andNotInPlace(next, masks[c]);
+                branch(next, depth + 1, score + scores[c]);
+            }
+        }
+    }
+
+    private static int firstSetBit(long[] bits) {
+        for (int w = 0; w < bits.length; w++) {
+            if (bits[w] != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(bits[w]);
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isEmpty(long[] bits) {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int count(long[] bits) {
+        int n = 0;
+        for (long word : bits) {
+            n += Long.bitCount(word);
+        }
+        return n;
+    }
+
+    private static int countAnd(long[] a, long[] b) {
+        int n = 0;
+        for (int w = 0; w < a.length; w++) {
+            n += Long.bitCount(a[w] & b[w]);
+        }
+        return n;
+    }
+
+    private static boolean isSubset(long[] a, long[] b) {
+        for (int w = 0; w < a.length; w++) {
+            if ((a[w] & ~b[w]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void or(long[] into, long[] bits) {
+        for (int w = 0; w < into.length; w++) {
+            into[w] |= bits[w];
+        }
+    }
+
+    private static long[] andNot(long[] a, long[] b) {
+        long[] result = a.clone();
+        andNotInPlace(result, b);
+        return result;
+    }
+
+    private static void andNotInPlace(long[] into, long[] bits) {
+        for (int w = 0; w < into.length; w++) {
+            into[w] &= ~bits[w];
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.talentbridge.matching;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the best {@code capacity} items seen so far in a bounded heap whose head is the
+ * worst kept item, so offering N items costs O(N log K) time and O(K) memory.
+ */
+public class TopKCollector<T> {
+
+    private final int capacity;
+    private final Comparator<? super T> ranking;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param capacity how many items to keep
+     * @param ranking  orders best first; ties must be broken deterministically
+     */
+    public TopKCollector(int capacity, Comparator<? super T> ranking) {
+        this.capacity = Math.max(0, capacity);
+        this.ranking = ranking;
+        this.heap = new PriorityQueue<>(Math.min(Math.max(1, this.capacity), 1024), ranking.reversed());
+    }
+
+    /**
+     * @return true if the item was kept
+     */
+    public boolean offer(T item) {
+        if (capacity == 0) {
+            return false;
+        }
+        if (heap.size() < capacity) {
+            heap.add(item);
+            return true;
+        }
+        if (ranking.compare(item, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(item);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isFull() {
+        return heap.size() >= capacity;
+    }
+
+    /**
+     * The worst item still kept, or null while the heap has room.
+     * Anything ranking below it can no longer make the cut.
+     */
+    public T threshold() {
+        return isFull() ? heap.peek() : null;
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Kept items, best first.
+     */
+    public List<T> toSortedList() {
+        List<T> sorted = new ArrayList<>(heap);
+        sorted.sort(ranking);
+        return sorted;
+    }
+}
@@ -0,0 +1,46 @@
+package com.talentbridge.matching;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Scores {@code SPECIES.length()} candidates per instruction with the JDK Vector API.
+ *
+ * Per lane the arithmetic is the scalar formula: min(level / desired, 1) * weight * 100,
+ * where a missing skill (level 0) yields 0 and full credit yields exactly weight * 100,
+ * added in requirement order and divided by the total weight. Each lane therefore
+ * produces the same float as {@link ScalarSkillScoreKernel}.
+ *
+ * Only instantiated through {@link SkillScoreKernel#create} once jdk.incubator.vector is
+ * known to be in the boot layer.
+ */
+public class VectorSkillScoreKernel implements SkillScoreKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void skillScores(ProjectRequirements requirements, float[][] levels, int count, float[] scores, int offset) {
+        int reqCount = requirements.size();
+        float totalWeight = requirements.getTotalWeight();
+        int bound = SPECIES.loopBound(count);
+
+        int c = 0;
+        for (; c < bound; c += SPECIES.length()) {
+            FloatVector points = FloatVector.zero(SPECIES);
+            for (int i = 0; i < reqCount; i++) {
+                FloatVector ratio = FloatVector.fromArray(SPECIES, levels[i], c)
+                        .div((float) requirements.desiredLevel(i))
+                        .min(1f);
+                points = points.add(ratio.mul(requirements.weight(i)).mul(100f));
+            }
+            FloatVector normalized = totalWeight > 0 ? points.div(totalWeight) : FloatVector.zero(SPECIES);
+            normalized.intoArray(scores, offset + c);
+        }
+        ScalarSkillScoreKernel.scoreRange(requirements, levels, c, count, scores, offset);
+    }
+
+    @Override
+    public String getName() {
+        return "vector-" + SPECIES.length() + "x" + Float.SIZE;
+    }
+}
@@ -0,0 +1,28 @@
+package com.talentbridge.model;
+
+import java.util.List;
+
+/**
+ * Proposed staffing of several projects; the assignments can be posted as-is to
+ * /api/assignments/batch.
+ */
+public class AllocationPlan {
+    private List<ProposedAssignment> assignments;
+    private double totalScore;
+    private int openSlots;
+    private int unfilledSlots;
+
+    public AllocationPlan() {}
+
+    public List<ProposedAssignment> getAssignments() { return assignments; }
+    public void setAssignments(List<ProposedAssignment> assignments) { this.assignments = assignments; }
+
+    public double getTotalScore() { return totalScore; }
+    public void setTotalScore(double totalScore) { this.totalScore = totalScore; }
+
+    public int getOpenSlots() { return openSlots; }
+    public void setOpenSlots(int openSlots) { this.openSlots = openSlots; }
+
+    public int getUnfilledSlots() { return unfilledSlots; }
+    public void setUnfilledSlots(int unfilledSlots) { this.unfilledSlots = unfilledSlots; }
+}
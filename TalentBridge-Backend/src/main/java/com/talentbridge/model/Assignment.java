@@ -1,18 +1,31 @@
 package com.talentbridge.model;
 
+import com.talentbridge.dao.mapping.Column;
+import com.talentbridge.dao.mapping.RowMapped;
+
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 
+@RowMapped
 public class Assignment {
+    @Column("assignment_id")
     private Integer assignmentId;
+    @Column("project_id")
     private Integer projectId;
+    @Column("user_id")
     private Integer userId;
+    @Column("role_on_project")
     private String roleOnProject;
+    @Column("assigned_at")
     private LocalDateTime assignedAt;
+    @Column("release_date")
     private LocalDate releaseDate;
+    @Column("status")
     private String status;
     
+    @Column(value = "project_name", optional = true)
     private String projectName;
+    @Column(value = "employee_name", optional = true)
     private String employeeName;
     
     public Assignment() {}
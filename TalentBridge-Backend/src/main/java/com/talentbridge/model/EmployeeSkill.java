@@ -1,14 +1,26 @@
 package com.talentbridge.model;
 
+import com.talentbridge.dao.mapping.Column;
+import com.talentbridge.dao.mapping.RowMapped;
+
+@RowMapped
 public class EmployeeSkill {
+    @Column("id")
     private Integer id;
+    @Column("user_id")
     private Integer userId;
+    @Column("skill_id")
     private Integer skillId;
+    @Column("level")
     private Integer level;
+    @Column("years_experience")
     private Integer yearsExperience;
+    @Column(value = "last_used_year", nullable = true)
     private Integer lastUsedYear;
     
+    @Column(value = "skill_name", optional = true)
     private String skillName;
+    @Column(value = "user_name", optional = true)
     private String userName;
     
     public EmployeeSkill() {}
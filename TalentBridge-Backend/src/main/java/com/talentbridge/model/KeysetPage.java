@@ -0,0 +1,25 @@
+package com.talentbridge.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. nextCursor fetches the page after this one and
+ * is null on the last page.
+ */
+public class KeysetPage<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public KeysetPage() {}
+
+    public KeysetPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,54 @@
+package com.talentbridge.model;
+
+/**
+ * Per-request knobs for a candidate search. The defaults reproduce the original
+ * behaviour: every candidate is scored, persisted and returned.
+ */
+public class MatchOptions {
+
+    /** Where the scores are computed: the in-memory engine, or a single SQL statement. */
+    public enum Mode { JAVA, SQL }
+
+    private Integer limit;
+    private int offset;
+    private Float minScore;
+    private boolean persistAll = true;
+    private Mode mode = Mode.JAVA;
+
+    public MatchOptions() {}
+
+    public MatchOptions(Integer limit, int offset, Float minScore, boolean persistAll) {
+        this.limit = limit;
+        this.offset = offset;
+        this.minScore = minScore;
+        this.persistAll = persistAll;
+    }
+
+    /** Number of ranked rows to keep (offset + limit), or Integer.MAX_VALUE when unbounded. */
+    public int windowSize() {
+        if (limit == null) {
+            return Integer.MAX_VALUE;
+        }
+        long window = (long) offset + limit;
+        return window > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) window;
+    }
+
+    public boolean passes(float totalScore) {
+        return minScore == null || totalScore >= minScore;
+    }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+
+    public int getOffset() { return offset; }
+    public void setOffset(int offset) { this.offset = offset; }
+
+    public Float getMinScore() { return minScore; }
+    public void setMinScore(Float minScore) { this.minScore = minScore; }
+
+    public boolean isPersistAll() { return persistAll; }
+    public void setPersistAll(boolean persistAll) { this.persistAll = persistAll; }
+
+    public Mode getMode() { return mode; }
+    public void setMode(Mode mode) { this.mode = mode; }
+}
@@ -0,0 +1,35 @@
+package com.talentbridge.model;
+
+import java.util.List;
+
+/**
+ * Snapshot of a running match, sent to progress subscribers.
+ */
+public class MatchProgress {
+    private Integer matchId;
+    private String status;
+    private int candidatesFound;
+    private int scored;
+    private int persisted;
+    private List<MatchResult> top;
+
+    public MatchProgress() {}
+
+    public Integer getMatchId() { return matchId; }
+    public void setMatchId(Integer matchId) { this.matchId = matchId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public int getCandidatesFound() { return candidatesFound; }
+    public void setCandidatesFound(int candidatesFound) { this.candidatesFound = candidatesFound; }
+
+    public int getScored() { return scored; }
+    public void setScored(int scored) { this.scored = scored; }
+
+    public int getPersisted() { return persisted; }
+    public void setPersisted(int persisted) { this.persisted = persisted; }
+
+    public List<MatchResult> getTop() { return top; }
+    public void setTop(List<MatchResult> top) { this.top = top; }
+}
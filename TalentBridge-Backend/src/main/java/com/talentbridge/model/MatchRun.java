@@ -0,0 +1,33 @@
+package com.talentbridge.model;
+
+import java.time.LocalDateTime;
+
+public class MatchRun {
+    private Integer matchId;
+    private Integer projectId;
+    private Integer requestedBy;
+    private String status;
+    private LocalDateTime createdAt;
+
+    private Integer resultCount;
+
+    public MatchRun() {}
+
+    public Integer getMatchId() { return matchId; }
+    public void setMatchId(Integer matchId) { this.matchId = matchId; }
+
+    public Integer getProjectId() { return projectId; }
+    public void setProjectId(Integer projectId) { this.projectId = projectId; }
+
+    public Integer getRequestedBy() { return requestedBy; }
+    public void setRequestedBy(Integer requestedBy) { this.requestedBy = requestedBy; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public Integer getResultCount() { return resultCount; }
+    public void setResultCount(Integer resultCount) { this.resultCount = resultCount; }
+}
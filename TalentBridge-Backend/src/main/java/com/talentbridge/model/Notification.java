@@ -1,13 +1,23 @@
 package com.talentbridge.model;
 
+import com.talentbridge.dao.mapping.Column;
+import com.talentbridge.dao.mapping.RowMapped;
+
 import java.time.LocalDateTime;
 
+@RowMapped
 public class Notification {
+    @Column("notification_id")
     private Integer notificationId;
+    @Column("user_id")
     private Integer userId;
+    @Column("message")
     private String message;
+    @Column("type")
     private String type;
+    @Column("is_read")
     private Boolean isRead;
+    @Column("created_at")
     private LocalDateTime createdAt;
 
     // Transient fields for API responses
@@ -0,0 +1,19 @@
+package com.talentbridge.model;
+
+import java.util.List;
+
+/**
+ * Projects to staff in one portfolio run; an empty or missing list means every OPEN project.
+ */
+public class PortfolioMatchRequest {
+    private List<Integer> projectIds;
+    private Integer limit;
+
+    public PortfolioMatchRequest() {}
+
+    public List<Integer> getProjectIds() { return projectIds; }
+    public void setProjectIds(List<Integer> projectIds) { this.projectIds = projectIds; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+}
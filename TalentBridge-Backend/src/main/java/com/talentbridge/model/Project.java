@@ -1,17 +1,30 @@
 package com.talentbridge.model;
 
+import com.talentbridge.dao.mapping.Column;
+import com.talentbridge.dao.mapping.RowMapped;
+
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 
+@RowMapped
 public class Project {
+    @Column("project_id")
     private Integer projectId;
+    @Column("name")
     private String name;
+    @Column("description")
     private String description;
+    @Column("start_date")
     private LocalDate startDate;
+    @Column("end_date")
     private LocalDate endDate;
+    @Column("required_headcount")
     private Integer requiredHeadcount;
+    @Column("status")
     private String status;
+    @Column(value = "created_by", nullable = true)
     private Integer createdBy;
+    @Column("created_at")
     private LocalDateTime createdAt;
 
     public Project() {}
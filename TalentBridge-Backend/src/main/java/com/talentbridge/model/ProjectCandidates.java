@@ -0,0 +1,28 @@
+package com.talentbridge.model;
+
+import java.util.List;
+
+public class ProjectCandidates {
+    private Integer projectId;
+    private String projectName;
+    private Integer matchId;
+    private int candidateCount;
+    private List<MatchResult> candidates;
+
+    public ProjectCandidates() {}
+
+    public Integer getProjectId() { return projectId; }
+    public void setProjectId(Integer projectId) { this.projectId = projectId; }
+
+    public String getProjectName() { return projectName; }
+    public void setProjectName(String projectName) { this.projectName = projectName; }
+
+    public Integer getMatchId() { return matchId; }
+    public void setMatchId(Integer matchId) { this.matchId = matchId; }
+
+    public int getCandidateCount() { return candidateCount; }
+    public void setCandidateCount(int candidateCount) { this.candidateCount = candidateCount; }
+
+    public List<MatchResult> getCandidates() { return candidates; }
+    public void setCandidates(List<MatchResult> candidates) { this.candidates = candidates; }
+}
@@ -0,0 +1,31 @@
+package com.talentbridge.model;
+
+public class ProjectMatch {
+    private Integer projectId;
+    private String projectName;
+
+    private float totalScore;
+    private float skillScore;
+    private float experienceScore;
+    private float availabilityScore;
+
+    public ProjectMatch() {}
+
+    public Integer getProjectId() { return projectId; }
+    public void setProjectId(Integer projectId) { this.projectId = projectId; }
+
+    public String getProjectName() { return projectName; }
+    public void setProjectName(String projectName) { this.projectName = projectName; }
+
+    public float getTotalScore() { return totalScore; }
+    public void setTotalScore(float totalScore) { this.totalScore = totalScore; }
+
+    public float getSkillScore() { return skillScore; }
+    public void setSkillScore(float skillScore) { this.skillScore = skillScore; }
+
+    public float getExperienceScore() { return experienceScore; }
+    public void setExperienceScore(float experienceScore) { this.experienceScore = experienceScore; }
+
+    public float getAvailabilityScore() { return availabilityScore; }
+    public void setAvailabilityScore(float availabilityScore) { this.availabilityScore = availabilityScore; }
+}
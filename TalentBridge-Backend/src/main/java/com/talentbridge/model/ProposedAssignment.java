@@ -0,0 +1,30 @@
+package com.talentbridge.model;
+
+public class ProposedAssignment {
+    private Integer projectId;
+    private String projectName;
+    private Integer userId;
+    private String employeeName;
+    private String employeeEmail;
+    private float totalScore;
+
+    public ProposedAssignment() {}
+
+    public Integer getProjectId() { return projectId; }
+    public void setProjectId(Integer projectId) { this.projectId = projectId; }
+
+    public String getProjectName() { return projectName; }
+    public void setProjectName(String projectName) { this.projectName = projectName; }
+
+    public Integer getUserId() { return userId; }
+    public void setUserId(Integer userId) { this.userId = userId; }
+
+    public String getEmployeeName() { return employeeName; }
+    public void setEmployeeName(String employeeName) { this.employeeName = employeeName; }
+
+    public String getEmployeeEmail() { return employeeEmail; }
+    public void setEmployeeEmail(String employeeEmail) { this.employeeEmail = employeeEmail; }
+
+    public float getTotalScore() { return totalScore; }
+    public void setTotalScore(float totalScore) { this.totalScore = totalScore; }
+}
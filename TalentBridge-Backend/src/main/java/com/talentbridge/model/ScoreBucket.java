@@ -0,0 +1,28 @@
+package com.talentbridge.model;
+
+/**
+ * Candidates scoring from minScore (inclusive) up to maxScore (exclusive, except for the
+ * last bucket, which includes 100).
+ */
+public class ScoreBucket {
+    private int minScore;
+    private int maxScore;
+    private int count;
+
+    public ScoreBucket() {}
+
+    public ScoreBucket(int minScore, int maxScore, int count) {
+        this.minScore = minScore;
+        this.maxScore = maxScore;
+        this.count = count;
+    }
+
+    public int getMinScore() { return minScore; }
+    public void setMinScore(int minScore) { this.minScore = minScore; }
+
+    public int getMaxScore() { return maxScore; }
+    public void setMaxScore(int maxScore) { this.maxScore = maxScore; }
+
+    public int getCount() { return count; }
+    public void setCount(int count) { this.count = count; }
+}
@@ -0,0 +1,27 @@
+package com.talentbridge.model;
+
+public class SimilarEmployee {
+    private Integer userId;
+    private String employeeName;
+    private String employeeEmail;
+
+    private float similarity;
+    private int sharedSkills;
+
+    public SimilarEmployee() {}
+
+    public Integer getUserId() { return userId; }
+    public void setUserId(Integer userId) { this.userId = userId; }
+
+    public String getEmployeeName() { return employeeName; }
+    public void setEmployeeName(String employeeName) { this.employeeName = employeeName; }
+
+    public String getEmployeeEmail() { return employeeEmail; }
+    public void setEmployeeEmail(String employeeEmail) { this.employeeEmail = employeeEmail; }
+
+    public float getSimilarity() { return similarity; }
+    public void setSimilarity(float similarity) { this.similarity = similarity; }
+
+    public int getSharedSkills() { return sharedSkills; }
+    public void setSharedSkills(int sharedSkills) { this.sharedSkills = sharedSkills; }
+}
@@ -0,0 +1,24 @@
+package com.talentbridge.model;
+
+import java.util.List;
+
+/**
+ * Ad-hoc requirements to try before saving them. With a projectId, people already
+ * assigned to that project are left out as in a real match run.
+ */
+public class SimulationRequest {
+    private Integer projectId;
+    private List<ProjectSkillReq> requirements;
+    private Integer limit;
+
+    public SimulationRequest() {}
+
+    public Integer getProjectId() { return projectId; }
+    public void setProjectId(Integer projectId) { this.projectId = projectId; }
+
+    public List<ProjectSkillReq> getRequirements() { return requirements; }
+    public void setRequirements(List<ProjectSkillReq> requirements) { this.requirements = requirements; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+}
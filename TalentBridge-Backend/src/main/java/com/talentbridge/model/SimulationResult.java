@@ -0,0 +1,20 @@
+package com.talentbridge.model;
+
+import java.util.List;
+
+public class SimulationResult {
+    private int poolSize;
+    private List<MatchResult> candidates;
+    private List<ScoreBucket> skillScoreHistogram;
+
+    public SimulationResult() {}
+
+    public int getPoolSize() { return poolSize; }
+    public void setPoolSize(int poolSize) { this.poolSize = poolSize; }
+
+    public List<MatchResult> getCandidates() { return candidates; }
+    public void setCandidates(List<MatchResult> candidates) { this.candidates = candidates; }
+
+    public List<ScoreBucket> getSkillScoreHistogram() { return skillScoreHistogram; }
+    public void setSkillScoreHistogram(List<ScoreBucket> skillScoreHistogram) { this.skillScoreHistogram = skillScoreHistogram; }
+}
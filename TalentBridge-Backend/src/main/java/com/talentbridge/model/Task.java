@@ -1,23 +1,41 @@
 package com.talentbridge.model;
 
+import com.talentbridge.dao.mapping.Column;
+import com.talentbridge.dao.mapping.RowMapped;
+
 import java.sql.Timestamp;
 
+@RowMapped
 public class Task {
+    @Column("task_id")
     private Integer taskId;
+    @Column("team_id")
     private Integer teamId;
+    @Column("assigned_to")
     private Integer assignedTo;
+    @Column("created_by")
     private Integer createdBy;
+    @Column("title")
     private String title;
+    @Column("description")
     private String description;
+    @Column("status")
     private String status; // PENDING, COMPLETED
+    @Column("completed_work")
     private String completedWork;
+    @Column("pending_work")
     private String pendingWork;
+    @Column("created_at")
     private Timestamp createdAt;
+    @Column("updated_at")
     private Timestamp updatedAt;
 
     // Transient fields for UI
+    @Column(value = "assigned_to_name", optional = true)
     private String assignedToName;
+    @Column(value = "created_by_name", optional = true)
     private String createdByName;
+    @Column(value = "team_name", optional = true)
     private String teamName;
 
     public Task() {}
@@ -1,18 +1,32 @@
 package com.talentbridge.model;
 
+import com.talentbridge.dao.mapping.Column;
+import com.talentbridge.dao.mapping.RowMapped;
+
 import java.time.LocalDateTime;
+import java.util.List;
 
+@RowMapped
 public class Team {
+    @Column("team_id")
     private Integer teamId;
+    @Column("name")
     private String name;
+    @Column("project_id")
     private Integer projectId;
+    @Column("created_by")
     private Integer createdBy;
+    @Column("created_at")
     private LocalDateTime createdAt;
 
     // Transient fields
+    @Column(value = "project_name", optional = true)
     private String projectName;
+    @Column(value = "creator_name", optional = true)
     private String creatorName;
+    @Column(value = "member_count", optional = true)
     private Integer memberCount;
+    private List<TeamMember> members;
 
     public Team() {}
 
@@ -47,4 +61,7 @@ public class Team {
 
     public Integer getMemberCount() { return memberCount; }
     public void setMemberCount(Integer memberCount) { this.memberCount = memberCount; }
+
+    public List<TeamMember> getMembers() { return members; }
+    public void setMembers(List<TeamMember> members) { this.members = members; }
 }
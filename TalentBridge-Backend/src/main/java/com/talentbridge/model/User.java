@@ -1,16 +1,29 @@
 package com.talentbridge.model;
 
+import com.talentbridge.dao.mapping.Column;
+import com.talentbridge.dao.mapping.RowMapped;
+
 import java.time.LocalDateTime;
 
+@RowMapped
 public class User {
+    @Column("user_id")
     private Integer userId;
+    @Column("username")
     private String username;
+    @Column("full_name")
     private String fullName;
+    @Column("email")
     private String email;
+    @Column("password_hash")
     private String passwordHash;
+    @Column("role")
     private String role;
+    @Column("phone")
     private String phone;
+    @Column("created_at")
     private LocalDateTime createdAt;
+    @Column("is_active")
     private Boolean isActive;
     
     public User() {}
@@ -0,0 +1,32 @@
+package com.talentbridge.scheduler;
+
+import com.talentbridge.service.CandidateScoreService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recomputes the materialized candidate scores.
+ * Service-level changes update only the affected pairs; this pass picks up availability
+ * windows opening or closing and rows changed outside the services.
+ */
+@Component
+public class CandidateScoreRefreshScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateScoreRefreshScheduler.class);
+
+    @Autowired
+    private CandidateScoreService candidateScoreService;
+
+    @Scheduled(fixedDelayString = "${match.candidate-scores.full-refresh-ms:3600000}",
+               initialDelayString = "${match.candidate-scores.full-refresh-ms:3600000}")
+    public void rebuildScores() {
+        try {
+            candidateScoreService.rebuildAll();
+        } catch (Exception e) {
+            logger.error("Candidate score rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
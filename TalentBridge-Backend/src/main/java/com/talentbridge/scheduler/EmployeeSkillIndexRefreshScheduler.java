@@ -0,0 +1,35 @@
+package com.talentbridge.scheduler;
+
+import com.talentbridge.matching.EmployeeSkillIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically reloads the in-memory employee skill index.
+ * Service-level changes refresh the index incrementally; this full reload catches
+ * rows changed by other paths (cascading deletes, manual SQL).
+ */
+@Component
+public class EmployeeSkillIndexRefreshScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSkillIndexRefreshScheduler.class);
+
+    @Autowired
+    private EmployeeSkillIndex employeeSkillIndex;
+
+    @Scheduled(fixedDelayString = "${match.index.full-refresh-ms:900000}",
+               initialDelayString = "${match.index.full-refresh-ms:900000}")
+    public void reloadIndex() {
+        if (!employeeSkillIndex.isLoaded()) {
+            return; // nothing has asked for it yet
+        }
+        try {
+            employeeSkillIndex.reload();
+        } catch (Exception e) {
+            logger.error("Employee skill index reload failed: {}", e.getMessage(), e);
+        }
+    }
+}
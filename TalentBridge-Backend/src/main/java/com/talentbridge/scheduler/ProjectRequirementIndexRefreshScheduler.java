@@ -0,0 +1,35 @@
+package com.talentbridge.scheduler;
+
+import com.talentbridge.matching.ProjectRequirementIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically reloads the in-memory project requirement index.
+ * Service-level changes refresh the index incrementally; this full reload catches
+ * projects and requirements changed by other paths (cascading deletes, manual SQL).
+ */
+@Component
+public class ProjectRequirementIndexRefreshScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectRequirementIndexRefreshScheduler.class);
+
+    @Autowired
+    private ProjectRequirementIndex projectRequirementIndex;
+
+    @Scheduled(fixedDelayString = "${match.index.full-refresh-ms:900000}",
+               initialDelayString = "${match.index.full-refresh-ms:900000}")
+    public void reloadIndex() {
+        if (!projectRequirementIndex.isLoaded()) {
+            return; // nothing has asked for it yet
+        }
+        try {
+            projectRequirementIndex.reload();
+        } catch (Exception e) {
+            logger.error("Project requirement index reload failed: {}", e.getMessage(), e);
+        }
+    }
+}
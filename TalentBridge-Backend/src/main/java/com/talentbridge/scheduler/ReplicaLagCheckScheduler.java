@@ -0,0 +1,23 @@
+package com.talentbridge.scheduler;
+
+import com.talentbridge.config.ReplicaSet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-measures replica lag so reads move back to the primary while a replica falls behind.
+ */
+@Component
+public class ReplicaLagCheckScheduler {
+
+    @Autowired
+    private ReplicaSet replicaSet;
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        if (!replicaSet.isEmpty()) {
+            replicaSet.checkLag();
+        }
+    }
+}
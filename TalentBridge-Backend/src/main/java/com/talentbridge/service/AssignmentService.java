@@ -5,6 +5,7 @@ import java.util.List;
 
 public interface AssignmentService {
     Integer assignEmployee(Integer projectId, Integer userId, String role);
+    List<Integer> assignEmployees(List<Assignment> assignments);
     void releaseEmployee(Integer assignmentId);
     List<Assignment> getProjectAssignments(Integer projectId);
     List<Assignment> getUserAssignments(Integer userId);
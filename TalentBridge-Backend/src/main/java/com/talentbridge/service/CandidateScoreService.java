@@ -0,0 +1,17 @@
+package com.talentbridge.service;
+
+import com.talentbridge.model.MatchResult;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface CandidateScoreService {
+    List<MatchResult> getRankedCandidates(Integer projectId, int page, int size);
+    void streamRankedCandidates(Integer projectId, Float minScore, int offset, Integer limit,
+                                Consumer<MatchResult> sink);
+    void refreshUser(Integer userId);
+    void refreshUsers(Collection<Integer> userIds);
+    void refreshProject(Integer projectId);
+    void refreshProjects(Collection<Integer> projectIds);
+    void rebuildAll();
+}
@@ -1,9 +1,26 @@
 package com.talentbridge.service;
 
 import com.talentbridge.model.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MatchService {
-    List<MatchResult> findCandidates(Integer projectId, Integer requestedBy);
+    List<MatchResult> findCandidates(Integer projectId, Integer requestedBy, MatchOptions options);
     MatchResult calculateScore(Integer userId, Integer projectId);
+
+    Integer startCandidateSearch(Integer projectId, Integer requestedBy, MatchOptions options);
+    Integer openCandidateStream(Integer projectId, Integer requestedBy, MatchOptions options);
+    void streamCandidates(Integer matchId, MatchOptions options, Consumer<MatchResult> sink);
+    void abandonCandidateStream(Integer matchId);
+    MatchRun getMatchRun(Integer matchId);
+    SseEmitter subscribeToProgress(Integer matchId);
+    List<MatchResult> getMatchResults(Integer matchId, int page, int size);
+
+    List<ProjectMatch> findProjectsFor(Integer userId, int limit);
+    List<SimilarEmployee> findSimilarEmployees(Integer userId, int limit);
+    SimulationResult simulate(SimulationRequest request);
+    AllocationPlan proposeAllocation(List<Integer> projectIds);
+    Team proposeTeam(Integer projectId);
+    List<ProjectCandidates> findCandidatesForPortfolio(List<Integer> projectIds, Integer requestedBy, int limit);
 }
@@ -1,10 +1,12 @@
 package com.talentbridge.service;
 
+import com.talentbridge.model.KeysetPage;
 import com.talentbridge.model.Project;
 import java.util.List;
 
 public interface ProjectService {
     List<Project> getAllProjects(int page, int size);
+    KeysetPage<Project> getAllProjectsAfter(String cursor, int size);
     Project getProjectById(Integer projectId);
     Integer createProject(Project project);
     void updateProject(Project project);
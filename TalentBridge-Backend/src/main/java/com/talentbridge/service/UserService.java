@@ -1,5 +1,6 @@
 package com.talentbridge.service;
 
+import com.talentbridge.model.KeysetPage;
 import com.talentbridge.model.User;
 import java.util.List;
 import java.util.Map;
@@ -8,11 +9,13 @@ public interface UserService {
     User getUserById(Integer userId);
     User getUserByEmail(String email);
     List<User> getAllUsers(int page, int size);
+    KeysetPage<User> getAllUsersAfter(String cursor, int size);
     void updateUser(User user);
     void deleteUser(Integer userId);
     List<User> getUsersByRole(String role);
 
     Map<String, Object> getUserStats();
     List<User> getInactiveUsers(int page, int size);
+    KeysetPage<User> getInactiveUsersAfter(String cursor, int size);
     void reactivateUser(Integer userId);
 }
@@ -5,13 +5,18 @@ import com.talentbridge.dao.ProjectDao;
 import com.talentbridge.dao.UserDao;
 import com.talentbridge.exception.CustomException;
 import com.talentbridge.exception.ResourceNotFoundException;
+import com.talentbridge.matching.MatchResultCache;
 import com.talentbridge.model.Assignment;
 import com.talentbridge.service.AssignmentService;
+import com.talentbridge.service.CandidateScoreService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class AssignmentServiceImpl implements AssignmentService {
@@ -28,6 +33,12 @@ public class AssignmentServiceImpl implements AssignmentService {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private CandidateScoreService candidateScoreService;
+
+    @Autowired
+    private MatchResultCache matchResultCache;
+
     @Override
     @Transactional
     public Integer assignEmployee(Integer projectId, Integer userId, String role) {
@@ -47,10 +58,59 @@ public class AssignmentServiceImpl implements AssignmentService {
         assignment.setStatus("ASSIGNED");
 
         Integer assignmentId = assignmentDao.save(assignment);
+        candidateScoreService.refreshUser(userId);
+        matchResultCache.inputsChanged();
 
         return assignmentId;
     }
 
+    /**
+     * Applies a batch of assignments (e.g. an allocation plan) all-or-nothing, with the
+     * same checks as a single assignment done in bulk.
+     */
+    @Override
+    @Transactional
+    public List<Integer> assignEmployees(List<Assignment> assignments) {
+        if (assignments == null || assignments.isEmpty()) {
+            throw new CustomException("No assignments given");
+        }
+
+        Set<Integer> projectIds = new HashSet<>();
+        Set<Integer> userIds = new HashSet<>();
+        Set<String> pairs = new HashSet<>();
+        for (Assignment assignment : assignments) {
+            if (assignment.getProjectId() == null || assignment.getUserId() == null) {
+                throw new CustomException("projectId and userId are required for every assignment");
+            }
+            if (!pairs.add(assignment.getUserId() + ":" + assignment.getProjectId())) {
+                throw new CustomException("Employee " + assignment.getUserId() +
+                        " appears twice for project " + assignment.getProjectId());
+            }
+            projectIds.add(assignment.getProjectId());
+            userIds.add(assignment.getUserId());
+            assignment.setStatus("ASSIGNED");
+        }
+
+        for (Integer projectId : projectIds) {
+            if (projectDao.findById(projectId) == null)
+                throw new ResourceNotFoundException("Project not found");
+        }
+
+        if (userDao.findByIds(new ArrayList<>(userIds)).size() != userIds.size())
+            throw new ResourceNotFoundException("User not found");
+
+        for (Assignment existing : assignmentDao.findByUserIds(new ArrayList<>(userIds))) {
+            if (pairs.contains(existing.getUserId() + ":" + existing.getProjectId()))
+                throw new CustomException("Employee " + existing.getUserId() +
+                        " is already assigned to project " + existing.getProjectId());
+        }
+
+        List<Integer> assignmentIds = assignmentDao.saveAll(assignments);
+        candidateScoreService.refreshUsers(userIds);
+        matchResultCache.inputsChanged();
+        return assignmentIds;
+    }
+
     @Override
     @Transactional
     public void releaseEmployee(Integer assignmentId) {
@@ -60,6 +120,8 @@ public class AssignmentServiceImpl implements AssignmentService {
             throw new ResourceNotFoundException("Assignment not found");
 
         assignmentDao.releaseAssignment(assignmentId);
+        candidateScoreService.refreshUser(assignment.getUserId());
+        matchResultCache.inputsChanged();
     }
 
     @Override
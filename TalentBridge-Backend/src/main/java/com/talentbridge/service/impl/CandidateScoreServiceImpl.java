@@ -0,0 +1,217 @@
+package com.talentbridge.service.impl;
+
+import com.talentbridge.dao.*;
+import com.talentbridge.exception.CustomException;
+import com.talentbridge.exception.ResourceNotFoundException;
+import com.talentbridge.matching.CandidateScorer;
+import com.talentbridge.matching.EmployeeSkillIndex;
+import com.talentbridge.matching.MatchScorer;
+import com.talentbridge.matching.ProjectRequirements;
+import com.talentbridge.model.*;
+import com.talentbridge.service.CandidateScoreService;
+import com.talentbridge.util.PagingUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains project_candidate_scores, the materialized score of every candidate against
+ * each OPEN project that has been read at least once. Writers call in with the user or
+ * project they changed, and only the affected (project, user) pairs are recomputed,
+ * inside the caller's transaction. Reading a project's ranking is one indexed query.
+ */
+@Service
+public class CandidateScoreServiceImpl implements CandidateScoreService {
+
+    @Autowired
+    private CandidateScoreDao candidateScoreDao;
+
+    @Autowired
+    private ProjectDao projectDao;
+
+    @Autowired
+    private ProjectSkillReqDao projectSkillReqDao;
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private EmployeeSkillDao employeeSkillDao;
+
+    @Autowired
+    private AssignmentDao assignmentDao;
+
+    @Autowired
+    private EmployeeAvailabilityDao employeeAvailabilityDao;
+
+    @Autowired
+    private EmployeeSkillIndex employeeSkillIndex;
+
+    @Autowired
+    private CandidateScorer candidateScorer;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Ranked candidates for an OPEN project; the first read materializes its scores.
+     */
+    @Override
+    @Transactional
+    public List<MatchResult> getRankedCandidates(Integer projectId, int page, int size) {
+        ensureBuilt(projectId);
+
+        page = PagingUtil.validatePage(page);
+        size = PagingUtil.validateSize(size);
+        int offset = PagingUtil.calculateOffset(page, size);
+        return candidateScoreDao.findRanked(projectId, offset, size);
+    }
+
+    /**
+     * Ranked candidates for an OPEN project passing minScore, from offset on, handed to
+     * the sink as they are read. Must run in a transaction for the rows to be streamed.
+     */
+    @Override
+    @Transactional
+    public void streamRankedCandidates(Integer projectId, Float minScore, int offset, Integer limit,
+                                       Consumer<MatchResult> sink) {
+        ensureBuilt(projectId);
+        candidateScoreDao.streamRanked(projectId, minScore, offset, limit, sink);
+    }
+
+    /**
+     * Recomputes one user's score against every materialized project. Skills, assignments
+     * and availability are read from the database so the change being made in the current
+     * transaction is already visible.
+     */
+    @Override
+    @Transactional
+    public void refreshUser(Integer userId) {
+        List<Integer> projectIds = candidateScoreDao.findBuiltProjectIds();
+        if (projectIds.isEmpty()) {
+            return;
+        }
+
+        User user = userDao.findById(userId);
+        if (user == null || !"EMPLOYEE".equals(user.getRole()) || !Boolean.TRUE.equals(user.getIsActive())) {
+            candidateScoreDao.deleteUser(userId);
+            return;
+        }
+
+        EmployeeSkillIndex.Profile profile = EmployeeSkillIndex.Profile.of(user, employeeSkillDao.findByUserId(userId));
+
+        List<Assignment> assignments = assignmentDao.findByUserId(userId);
+        Set<Integer> assignedProjects = assignments.stream()
+                .map(Assignment::getProjectId)
+                .collect(Collectors.toSet());
+        Integer percentAvailable = assignments.isEmpty()
+                ? null
+                : employeeAvailabilityDao.findCurrentPercentAvailable(userId);
+        float availabilityScore = MatchScorer.availabilityScore(!assignments.isEmpty(), percentAvailable);
+
+        Map<Integer, List<ProjectSkillReq>> requirementsByProject = projectSkillReqDao.findByProjectIds(projectIds)
+                .stream()
+                .collect(Collectors.groupingBy(ProjectSkillReq::getProjectId));
+
+        Map<Integer, MatchResult> scores = new LinkedHashMap<>();
+        List<Integer> removed = new ArrayList<>();
+
+        for (Integer projectId : projectIds) {
+            List<ProjectSkillReq> reqs = requirementsByProject.get(projectId);
+            boolean candidate = reqs != null
+                    && !assignedProjects.contains(projectId)
+                    && reqs.stream().anyMatch(r -> profile.levelOf(r.getSkillId()) > 0);
+            if (!candidate) {
+                removed.add(projectId);
+                continue;
+            }
+
+            ProjectRequirements requirements = ProjectRequirements.of(reqs);
+            float skillScore = MatchScorer.skillScore(requirements, profile);
+            float experienceScore = MatchScorer.experienceScore(requirements,
+                    profile.getSkillCount(), profile.getAverageYears());
+            scores.put(projectId, CandidateScorer.toResult(userId, user.getFullName(), user.getEmail(),
+                    skillScore, experienceScore, availabilityScore));
+        }
+
+        candidateScoreDao.saveUserScores(userId, scores);
+        candidateScoreDao.deleteUserScores(userId, removed);
+    }
+
+    @Override
+    @Transactional
+    public void refreshUsers(Collection<Integer> userIds) {
+        for (Integer userId : userIds) {
+            refreshUser(userId);
+        }
+    }
+
+    /**
+     * Rebuilds a materialized project after its requirements or status changed. A project
+     * that is no longer OPEN is dropped; one that was never read stays unbuilt.
+     */
+    @Override
+    @Transactional
+    public void refreshProject(Integer projectId) {
+        refreshProjects(Collections.singletonList(projectId));
+    }
+
+    @Override
+    @Transactional
+    public void refreshProjects(Collection<Integer> projectIds) {
+        for (Integer projectId : projectIds) {
+            if (!candidateScoreDao.isBuilt(projectId)) {
+                continue;
+            }
+            Project project = projectDao.findById(projectId);
+            if (project == null || !"OPEN".equals(project.getStatus())) {
+                candidateScoreDao.deleteProject(projectId);
+            } else {
+                rebuild(projectId);
+            }
+        }
+    }
+
+    /**
+     * Full recompute of every materialized project, for inputs that change without
+     * passing through a service (availability windows, the date moving on).
+     */
+    @Override
+    public void rebuildAll() {
+        for (Integer projectId : candidateScoreDao.findBuiltProjectIds()) {
+            transactionTemplate.executeWithoutResult(status -> refreshProjects(Collections.singletonList(projectId)));
+        }
+    }
+
+    /**
+     * Checks that the project is OPEN; the first read materializes its scores.
+     */
+    private void ensureBuilt(Integer projectId) {
+        Project project = projectDao.findById(projectId);
+        if (project == null) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        if (!"OPEN".equals(project.getStatus())) {
+            throw new CustomException("Candidate scores are only kept for OPEN projects");
+        }
+        if (!candidateScoreDao.isBuilt(projectId)) {
+            rebuild(projectId);
+        }
+    }
+
+    private void rebuild(Integer projectId) {
+        List<ProjectSkillReq> reqs = projectSkillReqDao.findByProjectId(projectId);
+        List<MatchResult> scores = new ArrayList<>();
+        if (!reqs.isEmpty()) {
+            Set<Integer> skillIds = reqs.stream().map(ProjectSkillReq::getSkillId).collect(Collectors.toSet());
+            candidateScorer.score(employeeSkillIndex.findCandidates(skillIds), projectId,
+                    ProjectRequirements.of(reqs), () -> Double.NEGATIVE_INFINITY, scores::add);
+        }
+        candidateScoreDao.replaceProject(projectId, scores);
+    }
+}
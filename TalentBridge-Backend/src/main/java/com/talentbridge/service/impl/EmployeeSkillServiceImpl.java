@@ -3,10 +3,13 @@ package com.talentbridge.service.impl;
 import com.talentbridge.dao.EmployeeSkillDao;
 import com.talentbridge.exception.CustomException;
 import com.talentbridge.exception.ResourceNotFoundException;
+import com.talentbridge.matching.EmployeeSkillIndex;
 import com.talentbridge.model.EmployeeSkill;
+import com.talentbridge.service.CandidateScoreService;
 import com.talentbridge.service.EmployeeSkillService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -16,6 +19,12 @@ public class EmployeeSkillServiceImpl implements EmployeeSkillService {
     @Autowired
     private EmployeeSkillDao employeeSkillDao;
 
+    @Autowired
+    private EmployeeSkillIndex employeeSkillIndex;
+
+    @Autowired
+    private CandidateScoreService candidateScoreService;
+
     @Override
     public List<EmployeeSkill> getEmployeeSkills(Integer userId) {
         return employeeSkillDao.findByUserId(userId);
@@ -27,6 +36,7 @@ public class EmployeeSkillServiceImpl implements EmployeeSkillService {
     }
 
     @Override
+    @Transactional
     public Integer addEmployeeSkill(EmployeeSkill employeeSkill) {
 
         if (employeeSkillDao.exists(employeeSkill.getUserId(), employeeSkill.getSkillId())) {
@@ -37,13 +47,18 @@ public class EmployeeSkillServiceImpl implements EmployeeSkillService {
             throw new CustomException("Skill level must be between 1 and 5");
         }
 
-        return employeeSkillDao.save(employeeSkill);
+        Integer id = employeeSkillDao.save(employeeSkill);
+        employeeSkillIndex.refreshUser(employeeSkill.getUserId());
+        candidateScoreService.refreshUser(employeeSkill.getUserId());
+        return id;
     }
 
     @Override
+    @Transactional
     public void updateEmployeeSkill(EmployeeSkill employeeSkill) {
 
-        if (employeeSkillDao.findById(employeeSkill.getId()) == null) {
+        EmployeeSkill existing = employeeSkillDao.findById(employeeSkill.getId());
+        if (existing == null) {
             throw new ResourceNotFoundException("Employee skill not found");
         }
 
@@ -52,15 +67,21 @@ public class EmployeeSkillServiceImpl implements EmployeeSkillService {
         }
 
         employeeSkillDao.update(employeeSkill);
+        employeeSkillIndex.refreshUser(existing.getUserId());
+        candidateScoreService.refreshUser(existing.getUserId());
     }
 
     @Override
+    @Transactional
     public void deleteEmployeeSkill(Integer id) {
 
-        if (employeeSkillDao.findById(id) == null) {
+        EmployeeSkill existing = employeeSkillDao.findById(id);
+        if (existing == null) {
             throw new ResourceNotFoundException("Employee skill not found");
         }
 
         employeeSkillDao.delete(id);
+        employeeSkillIndex.refreshUser(existing.getUserId());
+        candidateScoreService.refreshUser(existing.getUserId());
     }
 }
@@ -1,20 +1,69 @@
 package com.talentbridge.service.impl;
 
 import com.talentbridge.dao.*;
+import com.talentbridge.exception.CustomException;
 import com.talentbridge.exception.ResourceNotFoundException;
+import com.talentbridge.matching.CandidateScorer;
+import com.talentbridge.matching.EmployeeSkillIndex;
+import com.talentbridge.matching.HungarianSolver;
+import com.talentbridge.matching.MatchProgressTracker;
+import com.talentbridge.matching.MatchResultCache;
+import com.talentbridge.matching.MatchRunCoordinator;
+import com.talentbridge.matching.MatchScorer;
+import com.talentbridge.matching.ProjectRequirementIndex;
+import com.talentbridge.matching.ProjectRequirements;
+import com.talentbridge.matching.SkillVectorIndex;
+import com.talentbridge.matching.TeamCoverSolver;
+import com.talentbridge.matching.TopKCollector;
 import com.talentbridge.model.*;
+import com.talentbridge.service.CandidateScoreService;
 import com.talentbridge.service.MatchService;
+import com.talentbridge.util.PagingUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
 import java.util.stream.Collectors;
 
 @Service
 public class MatchServiceImpl implements MatchService {
     
+    private static final Logger logger = LoggerFactory.getLogger(MatchServiceImpl.class);
+    
+    /** Best first: total score descending, then user id ascending so ties rank the same every run. */
+    private static final Comparator<MatchResult> RANKING = Comparator
+            .comparing(MatchResult::getTotalScore, Comparator.reverseOrder())
+            .thenComparing(MatchResult::getUserId);
+    
+    private static final Comparator<ProjectMatch> PROJECT_RANKING = Comparator
+            .comparing(ProjectMatch::getTotalScore, Comparator.reverseOrder())
+            .thenComparing(ProjectMatch::getProjectId);
+    
+    /** Above 100 - score for any real candidate. */
+    private static final double UNASSIGNABLE_COST = 1_000;
+    
+    private static final int HISTOGRAM_BUCKET_WIDTH = 10;
+    
+    @Value("${match.team.node-budget:200000}")
+    private int teamNodeBudget;
+    
+    @Value("${match.persist.batch-size:500}")
+    private int persistBatchSize;
+    
     @Autowired
     private ProjectDao projectDao;
     
@@ -31,12 +80,316 @@ public class MatchServiceImpl implements MatchService {
     private AssignmentDao assignmentDao;
     
     @Autowired
-    private JdbcTemplate jdbcTemplate;
+    private EmployeeAvailabilityDao employeeAvailabilityDao;
+    
+    @Autowired
+    private EmployeeSkillIndex employeeSkillIndex;
+    
+    @Autowired
+    private MatchDao matchDao;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    @Qualifier("matchExecutor")
+    private TaskExecutor matchExecutor;
+    
+    @Autowired
+    private CandidateScorer candidateScorer;
+    
+    @Autowired
+    private MatchResultCache matchResultCache;
+    
+    @Autowired
+    private ProjectRequirementIndex projectRequirementIndex;
+    
+    @Autowired
+    private SkillVectorIndex skillVectorIndex;
+    
+    @Autowired
+    private MatchProgressTracker matchProgressTracker;
     
+    @Autowired
+    private MatchRunCoordinator matchRunCoordinator;
+    
+    @Autowired
+    private CandidateScoreService candidateScoreService;
+    
+    /**
+     * Identical concurrent requests (same project and options) share one run: the first
+     * scores and commits, the others wait for it and get its results and match_id. A
+     * queued or running background search for the same request counts as that run.
+     */
     @Override
-    @Transactional
-    public List<MatchResult> findCandidates(Integer projectId, Integer requestedBy) {
-
+    public List<MatchResult> findCandidates(Integer projectId, Integer requestedBy, MatchOptions options) {
+        
+        validateOptions(options);
+        
+        List<ProjectSkillReq> requirements = loadRequirements(projectId);
+        
+        MatchResultCache.Stamp stamp = currentStamp(requirements, options);
+        
+        if (stamp != null) {
+            MatchResultCache.Entry cached = matchResultCache.get(projectId, stamp);
+            if (cached != null) {
+                List<MatchResult> results = windowFromCache(cached, options);
+                if (results != null) {
+                    meterRegistry.counter("talentbridge.match.cache.hits").increment();
+                    return results;
+                }
+            }
+            meterRegistry.counter("talentbridge.match.cache.misses").increment();
+        }
+        
+        List<MatchResult> results = matchRunCoordinator.singleFlight(runKey(projectId, options), () ->
+                transactionTemplate.execute(status -> {
+                    Integer matchId = createMatchRecord(projectId, requestedBy);
+                    List<MatchResult> ranked = runMatch(matchId, projectId, requirements, options, stamp);
+                    updateMatchStatus(matchId, "COMPLETED");
+                    return new MatchRunCoordinator.Outcome<>(matchId, ranked);
+                }), matchId -> readWindow(matchId, options));
+        
+        return new ArrayList<>(results);
+    }
+    
+    /**
+     * Validates the project, records a PENDING match and hands scoring to the bounded
+     * match executor. The returned match_id can be polled until the status is
+     * COMPLETED (or FAILED). If an earlier run's inputs are unchanged its match_id is
+     * returned instead, already COMPLETED, and while an identical search is still queued
+     * or running its match_id is shared (once committed, for a synchronous one).
+     */
+    @Override
+    public Integer startCandidateSearch(Integer projectId, Integer requestedBy, MatchOptions options) {
+        
+        validateOptions(options);
+        
+        List<ProjectSkillReq> requirements = loadRequirements(projectId);
+        
+        MatchResultCache.Stamp stamp = currentStamp(requirements, options);
+        
+        if (stamp != null) {
+            MatchResultCache.Entry cached = matchResultCache.get(projectId, stamp);
+            if (cached != null) {
+                meterRegistry.counter("talentbridge.match.cache.hits").increment();
+                return cached.getMatchId();
+            }
+            meterRegistry.counter("talentbridge.match.cache.misses").increment();
+        }
+        
+        List<Object> key = runKey(projectId, options);
+        return matchRunCoordinator.joinBackgroundRun(key, () -> createMatchRecord(projectId, requestedBy), matchId -> {
+            try {
+                matchExecutor.execute(() -> runMatchJob(key, matchId, projectId, requirements, options, stamp));
+            } catch (TaskRejectedException e) {
+                updateMatchStatus(matchId, "FAILED");
+                throw new CustomException("Too many match runs in progress, please try again shortly");
+            }
+        });
+    }
+    
+    /**
+     * Validates the request and records the match a stream will be served from, so the
+     * match_id is known before the first row is written. If an earlier run's inputs are
+     * unchanged its match_id is returned instead, already COMPLETED.
+     */
+    @Override
+    public Integer openCandidateStream(Integer projectId, Integer requestedBy, MatchOptions options) {
+        
+        validateOptions(options);
+        
+        List<ProjectSkillReq> requirements = loadRequirements(projectId);
+        
+        MatchResultCache.Stamp stamp = currentStamp(requirements, options);
+        
+        if (stamp != null) {
+            MatchResultCache.Entry cached = matchResultCache.get(projectId, stamp);
+            if (cached != null) {
+                meterRegistry.counter("talentbridge.match.cache.hits").increment();
+                return cached.getMatchId();
+            }
+            meterRegistry.counter("talentbridge.match.cache.misses").increment();
+        }
+        
+        return createMatchRecord(projectId, requestedBy);
+    }
+    
+    /**
+     * Serves a match opened by openCandidateStream, handing each result of the requested
+     * page to the sink as soon as it is known. Only the rows handed out are written to
+     * match_results.
+     *
+     * An OPEN project in JAVA mode is read from its materialized project_candidate_scores
+     * through a cursor, so the first row arrives after one index read however large the
+     * pool is (the first stream of a project builds them once). Other projects, and SQL
+     * mode, score the pool keeping only the requested window, which is streamed from
+     * memory once scoring ends. A match that was already COMPLETED (an unchanged earlier
+     * run) is read back from match_results.
+     */
+    @Override
+    public void streamCandidates(Integer matchId, MatchOptions options, Consumer<MatchResult> sink) {
+        MatchRun run = getMatchRun(matchId);
+        
+        if ("COMPLETED".equals(run.getStatus())) {
+            // The driver only reads through a cursor inside a transaction
+            transactionTemplate.executeWithoutResult(status -> matchDao.streamResults(matchId,
+                    options.getMinScore(), options.getOffset(), options.getLimit(), sink));
+            return;
+        }
+        if (!"PENDING".equals(run.getStatus())) {
+            throw new CustomException("Match " + matchId + " is " + run.getStatus());
+        }
+        
+        Integer projectId = run.getProjectId();
+        try {
+            if (options.getMode() == MatchOptions.Mode.JAVA && isOpen(projectId)) {
+                streamMaterialized(matchId, projectId, options, sink);
+            } else {
+                List<ProjectSkillReq> requirements = loadRequirements(projectId);
+                MatchOptions runOptions = new MatchOptions(options.getLimit(), options.getOffset(),
+                        options.getMinScore(), false);
+                runOptions.setMode(options.getMode());
+                List<MatchResult> window = matchRunCoordinator.withPermit(() -> transactionTemplate.execute(status -> {
+                    List<MatchResult> ranked = runMatch(matchId, projectId, requirements, runOptions, null);
+                    updateMatchStatus(matchId, "COMPLETED");
+                    return ranked;
+                }));
+                window.forEach(sink);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Match {} for project {} failed: {}", matchId, projectId, e.getMessage(), e);
+            updateMatchStatus(matchId, "FAILED");
+            throw e;
+        }
+    }
+    
+    /**
+     * Called when a stream's request ends. A match still PENDING was never served (the
+     * body was rejected, timed out or the client left first) and is marked FAILED, which
+     * also ends its progress feed.
+     */
+    @Override
+    public void abandonCandidateStream(Integer matchId) {
+        if (matchDao.updateStatusFrom(matchId, "PENDING", "FAILED")) {
+            logger.warn("Match {} was opened for a stream that never ran", matchId);
+            matchProgressTracker.finish(matchId, "FAILED");
+        }
+    }
+    
+    private boolean isOpen(Integer projectId) {
+        Project project = projectDao.findById(projectId);
+        return project != null && "OPEN".equals(project.getStatus());
+    }
+    
+    /**
+     * Streams the materialized ranking and records what was streamed as the match's
+     * results, in batches, in the same transaction as the cursor.
+     */
+    private void streamMaterialized(Integer matchId, Integer projectId, MatchOptions options,
+                                    Consumer<MatchResult> sink) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<MatchResult> pending = new ArrayList<>();
+            long[] persistNanos = new long[1];
+            int[] persistedRows = new int[1];
+            candidateScoreService.streamRankedCandidates(projectId, options.getMinScore(), options.getOffset(),
+                    options.getLimit(), result -> {
+                        result.setMatchId(matchId);
+                        sink.accept(result);
+                        pending.add(result);
+                        if (pending.size() >= persistBatchSize) {
+                            persistedRows[0] += flushResults(pending, persistNanos);
+                        }
+                    });
+            persistedRows[0] += flushResults(pending, persistNanos);
+            recordPersistMetrics(persistNanos[0], persistedRows[0]);
+            updateMatchStatus(matchId, "COMPLETED");
+        });
+        meterRegistry.timer("talentbridge.match.run", "mode", "materialized")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Progress feed of a run. A run this instance is executing streams snapshots until it
+     * finishes; anything else (finished, or running elsewhere) gets one snapshot of what
+     * the database holds and the feed closes.
+     */
+    @Override
+    public SseEmitter subscribeToProgress(Integer matchId) {
+        MatchRun run = getMatchRun(matchId);
+        SseEmitter emitter = matchProgressTracker.subscribe(matchId);
+        if (emitter != null) {
+            return emitter;
+        }
+        
+        MatchProgress progress = new MatchProgress();
+        progress.setMatchId(matchId);
+        progress.setStatus(run.getStatus());
+        progress.setScored(run.getResultCount());
+        progress.setPersisted(run.getResultCount());
+        progress.setTop(matchDao.findResults(matchId, 0, MatchProgressTracker.TOP_SIZE));
+        return matchProgressTracker.finished(progress);
+    }
+    
+    @Override
+    public MatchRun getMatchRun(Integer matchId) {
+        MatchRun run = matchDao.findById(matchId);
+        if (run == null) {
+            throw new ResourceNotFoundException("Match not found with id: " + matchId);
+        }
+        return run;
+    }
+    
+    @Override
+    public List<MatchResult> getMatchResults(Integer matchId, int page, int size) {
+        getMatchRun(matchId);
+        page = PagingUtil.validatePage(page);
+        size = PagingUtil.validateSize(size);
+        int offset = PagingUtil.calculateOffset(page, size);
+        return matchDao.findResults(matchId, offset, size);
+    }
+    
+    private void runMatchJob(List<Object> key, Integer matchId, Integer projectId, List<ProjectSkillReq> requirements,
+                             MatchOptions options, MatchResultCache.Stamp stamp) {
+        boolean completed = false;
+        try {
+            matchRunCoordinator.withPermit(() -> transactionTemplate.execute(status -> {
+                runMatch(matchId, projectId, requirements, options, stamp);
+                updateMatchStatus(matchId, "COMPLETED");
+                return matchId;
+            }));
+            completed = true;
+        } catch (Exception e) {
+            logger.error("Match {} for project {} failed: {}", matchId, projectId, e.getMessage(), e);
+            updateMatchStatus(matchId, "FAILED");
+        } finally {
+            matchRunCoordinator.backgroundRunFinished(key, matchId, completed);
+        }
+    }
+    
+    /**
+     * The window a run with these options returned, read back from what it committed.
+     */
+    private List<MatchResult> readWindow(Integer matchId, MatchOptions options) {
+        List<MatchResult> results = new ArrayList<>();
+        matchDao.streamResults(matchId, options.getMinScore(), options.getOffset(), options.getLimit(),
+                results::add);
+        return results;
+    }
+    
+    /**
+     * Requests with equal keys produce identical results, so concurrent ones can share a run.
+     */
+    private List<Object> runKey(Integer projectId, MatchOptions options) {
+        return Arrays.asList(projectId, options.getLimit(), options.getOffset(), options.getMinScore(),
+                options.isPersistAll(), options.getMode());
+    }
+    
+    private List<ProjectSkillReq> loadRequirements(Integer projectId) {
         Project project = projectDao.findById(projectId);
         if (project == null) {
             throw new ResourceNotFoundException("Project not found with id: " + projectId);
@@ -46,216 +399,639 @@ public class MatchServiceImpl implements MatchService {
         if (requirements.isEmpty()) {
             throw new ResourceNotFoundException("No skill requirements defined for this project");
         }
-        
-        Integer matchId = createMatchRecord(projectId, requestedBy);
-        
+        return requirements;
+    }
+    
+    private void validateOptions(MatchOptions options) {
+        if (options.getLimit() != null && options.getLimit() < 1) {
+            throw new CustomException("limit must be at least 1");
+        }
+        if (options.getOffset() < 0) {
+            throw new CustomException("offset cannot be negative");
+        }
+        if (options.getMinScore() != null && (options.getMinScore() < 0 || options.getMinScore() > 100)) {
+            throw new CustomException("minScore must be between 0 and 100");
+        }
+    }
+    
+    /**
+     * The cache only holds in-memory runs, so SQL mode neither reads nor fills it and
+     * every SQL run is measured end to end.
+     */
+    private MatchResultCache.Stamp currentStamp(List<ProjectSkillReq> requirements, MatchOptions options) {
+        if (!matchResultCache.isEnabled() || options.getMode() != MatchOptions.Mode.JAVA) {
+            return null;
+        }
+        return new MatchResultCache.Stamp(requirements, employeeSkillIndex.getVersion(),
+                matchDao.findInputVersion(), LocalDate.now());
+    }
+    
+    /**
+     * Runs the match in the requested mode, timed per mode so the two engines can be
+     * compared on the same data.
+     */
+    private List<MatchResult> runMatch(Integer matchId, Integer projectId, List<ProjectSkillReq> requirements,
+                                       MatchOptions options, MatchResultCache.Stamp stamp) {
+        long start = System.nanoTime();
+        List<MatchResult> results = options.getMode() == MatchOptions.Mode.SQL
+                ? matchDao.scoreAndSaveResults(matchId, projectId, options.getMinScore(),
+                        options.getOffset(), options.windowSize(), options.isPersistAll())
+                : scoreInMemory(matchId, projectId, requirements, options, stamp);
+        meterRegistry.timer("talentbridge.match.run", "mode", options.getMode().name().toLowerCase())
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return results;
+    }
+    
+    /**
+     * Scores the candidate pool and returns the requested window of the ranking.
+     * Only the best results are held in a bounded heap. With persistAll every scored
+     * candidate is still written to match_results in batches as it is produced, and the
+     * top of the ranking is cached against the input stamp; otherwise only the kept
+     * results are written and candidates that cannot beat minScore or the heap's current
+     * cut-off are pruned unscored.
+     */
+    private List<MatchResult> scoreInMemory(Integer matchId, Integer projectId, List<ProjectSkillReq> requirements,
+                                            MatchOptions options, MatchResultCache.Stamp stamp) {
         Set<Integer> requiredSkillIds = requirements.stream()
                 .map(ProjectSkillReq::getSkillId)
                 .collect(Collectors.toSet());
         
-        List<Integer> candidateUserIds = findCandidateEmployees(requiredSkillIds);
+        List<EmployeeSkillIndex.Profile> candidates = employeeSkillIndex.findCandidates(requiredSkillIds);
+        matchProgressTracker.candidatesFound(matchId, candidates.size());
         
-        List<MatchResult> results = new ArrayList<>();
+        boolean cacheable = options.isPersistAll() && stamp != null;
+        int capacity = cacheable
+                ? Math.max(options.windowSize(), matchResultCache.getDepth())
+                : options.windowSize();
+        TopKCollector<MatchResult> ranking = new TopKCollector<>(Math.min(capacity, candidates.size()), RANKING);
+        List<MatchResult> pending = new ArrayList<>();
+        long[] persistNanos = new long[1];
+        int[] persistedRows = new int[1];
+        int[] scoredRows = new int[1];
         
-        for (Integer userId : candidateUserIds) {
-
-            if (assignmentDao.isUserAssigned(userId, projectId)) {
+        DoubleSupplier cutoff = options.isPersistAll()
+                ? () -> Double.NEGATIVE_INFINITY
+                : () -> {
+                    MatchResult worstKept = ranking.threshold();
+                    double cut = options.getMinScore() != null ? options.getMinScore() : Double.NEGATIVE_INFINITY;
+                    return worstKept != null ? Math.max(cut, worstKept.getTotalScore()) : cut;
+                };
+        
+        candidateScorer.score(candidates, projectId, ProjectRequirements.of(requirements), cutoff, result -> {
+            result.setMatchId(matchId);
+            scoredRows[0]++;
+            // A cached ranking must serve any minScore, so it is applied afterwards instead
+            if (cacheable || options.passes(result.getTotalScore())) {
+                ranking.offer(result);
+            }
+            if (options.isPersistAll()) {
+                pending.add(result);
+                if (pending.size() >= persistBatchSize) {
+                    persistedRows[0] += flushResults(pending, persistNanos);
+                }
+            }
+            if (matchProgressTracker.isDue(matchId)) {
+                matchProgressTracker.progress(matchId, scoredRows[0], persistedRows[0],
+                        () -> leading(ranking.toSortedList(), options));
+            }
+        });
+        
+        List<MatchResult> ranked = ranking.toSortedList();
+        if (!options.isPersistAll()) {
+            pending.addAll(ranked);
+        }
+        persistedRows[0] += flushResults(pending, persistNanos);
+        recordPersistMetrics(persistNanos[0], persistedRows[0]);
+        matchProgressTracker.progress(matchId, scoredRows[0], persistedRows[0], () -> leading(ranked, options));
+        
+        if (cacheable) {
+            int depth = Math.min(matchResultCache.getDepth(), ranked.size());
+            matchResultCache.put(projectId, stamp, matchId, new ArrayList<>(ranked.subList(0, depth)),
+                    depth == scoredRows[0]);
+        }
+        
+        return window(ranked, options);
+    }
+    
+    /**
+     * The offset/limit page of a best-first ranking, cut at minScore.
+     */
+    private List<MatchResult> window(List<MatchResult> ranked, MatchOptions options) {
+        int passing = countPassing(ranked, options);
+        int from = Math.min(options.getOffset(), passing);
+        int to = Math.min(passing, options.windowSize());
+        return new ArrayList<>(ranked.subList(from, to));
+    }
+    
+    /**
+     * The first few passing results of a ranking, for progress snapshots.
+     */
+    private List<MatchResult> leading(List<MatchResult> ranked, MatchOptions options) {
+        int count = Math.min(countPassing(ranked, options), MatchProgressTracker.TOP_SIZE);
+        return new ArrayList<>(ranked.subList(0, count));
+    }
+    
+    /**
+     * Serves a page from a cached ranking, or null when the page reaches past what the
+     * cache holds.
+     */
+    private List<MatchResult> windowFromCache(MatchResultCache.Entry cached, MatchOptions options) {
+        List<MatchResult> ranked = cached.getRanked();
+        int passing = countPassing(ranked, options);
+        boolean holdsEveryPassing = cached.isComplete() || passing < ranked.size();
+        if (!holdsEveryPassing && options.windowSize() > passing) {
+            return null;
+        }
+        return window(ranked, options);
+    }
+    
+    private int countPassing(List<MatchResult> ranked, MatchOptions options) {
+        int passing = 0;
+        while (passing < ranked.size() && options.passes(ranked.get(passing).getTotalScore())) {
+            passing++;
+        }
+        return passing;
+    }
+    
+    /**
+     * Scores a whole portfolio of projects in one pass. The candidate pool is the union of
+     * every project's candidates, and their assignments and availability are loaded once
+     * and shared. One matches row is written per project with requirements, and all
+     * results go to match_results in shared batches. Each project keeps its own ranking,
+     * of which the top {@code limit} are returned.
+     */
+    @Override
+    @Transactional
+    public List<ProjectCandidates> findCandidatesForPortfolio(List<Integer> projectIds, Integer requestedBy,
+                                                              int limit) {
+        List<Project> projects = loadPortfolio(projectIds);
+        limit = PagingUtil.validateSize(limit);
+        
+        List<Integer> ids = projects.stream().map(Project::getProjectId).collect(Collectors.toList());
+        Map<Integer, List<ProjectSkillReq>> requirementsByProject = ids.isEmpty()
+                ? Collections.emptyMap()
+                : projectSkillReqDao.findByProjectIds(ids).stream()
+                        .collect(Collectors.groupingBy(ProjectSkillReq::getProjectId));
+        
+        List<Integer> staffable = ids.stream()
+                .filter(requirementsByProject::containsKey)
+                .collect(Collectors.toList());
+        Map<Integer, Integer> matchIds = staffable.isEmpty()
+                ? Collections.emptyMap()
+                : matchDao.createMatches(staffable, requestedBy);
+        
+        Set<Integer> allSkillIds = requirementsByProject.values().stream()
+                .flatMap(List::stream)
+                .map(ProjectSkillReq::getSkillId)
+                .collect(Collectors.toSet());
+        List<Integer> poolUserIds = employeeSkillIndex.findCandidates(allSkillIds).stream()
+                .map(EmployeeSkillIndex.Profile::getUserId)
+                .collect(Collectors.toList());
+        CandidateScorer.Workload workload = candidateScorer.loadWorkload(poolUserIds);
+        
+        List<MatchResult> pending = new ArrayList<>();
+        long[] persistNanos = new long[1];
+        int[] persistedRows = new int[1];
+        List<ProjectCandidates> portfolio = new ArrayList<>();
+        
+        for (Project project : projects) {
+            ProjectCandidates entry = new ProjectCandidates();
+            entry.setProjectId(project.getProjectId());
+            entry.setProjectName(project.getName());
+            portfolio.add(entry);
+            
+            List<ProjectSkillReq> reqs = requirementsByProject.get(project.getProjectId());
+            if (reqs == null) {
+                entry.setCandidates(Collections.emptyList());
                 continue;
             }
             
-            MatchResult result = calculateScore(userId, projectId);
-            result.setMatchId(matchId);
+            Integer matchId = matchIds.get(project.getProjectId());
+            Set<Integer> skillIds = reqs.stream().map(ProjectSkillReq::getSkillId).collect(Collectors.toSet());
+            List<EmployeeSkillIndex.Profile> candidates = employeeSkillIndex.findCandidates(skillIds);
+            TopKCollector<MatchResult> ranking = new TopKCollector<>(Math.min(limit, candidates.size()), RANKING);
+            int[] scored = new int[1];
             
-            saveMatchResult(result);
+            candidateScorer.score(candidates, project.getProjectId(), ProjectRequirements.of(reqs),
+                    () -> Double.NEGATIVE_INFINITY, workload, result -> {
+                        result.setMatchId(matchId);
+                        scored[0]++;
+                        ranking.offer(result);
+                        pending.add(result);
+                        if (pending.size() >= persistBatchSize) {
+                            persistedRows[0] += flushResults(pending, persistNanos);
+                        }
+                    });
             
-            results.add(result);
+            entry.setMatchId(matchId);
+            entry.setCandidateCount(scored[0]);
+            entry.setCandidates(ranking.toSortedList());
         }
-
-        results.sort((a, b) -> Float.compare(b.getTotalScore(), a.getTotalScore()));
-
-        updateMatchStatus(matchId, "COMPLETED");
         
-        return results;
+        persistedRows[0] += flushResults(pending, persistNanos);
+        recordPersistMetrics(persistNanos[0], persistedRows[0]);
+        if (!matchIds.isEmpty()) {
+            matchDao.updateStatuses(new ArrayList<>(matchIds.values()), "COMPLETED");
+        }
+        
+        return portfolio;
     }
     
+    /**
+     * Proposes who should fill the open headcount of several projects so that the summed
+     * total score is maximal, each employee taking at most one slot. Open slots are
+     * required_headcount minus current ASSIGNED rows. Scores come from the same scorer as
+     * find-candidates, and the assignment is solved exactly with the Hungarian algorithm,
+     * one row per open slot and one column per candidate.
+     *
+     * Each project only keeps its best {@code totalSlots} candidates as columns: any other
+     * slots take at most totalSlots - 1 of them, so one of those is always free and the
+     * optimum is unchanged. The plan is not applied here.
+     */
     @Override
-    public MatchResult calculateScore(Integer userId, Integer projectId) {
-        User user = userDao.findById(userId);
-        if (user == null) {
-            throw new ResourceNotFoundException("User not found");
-        }
+    public AllocationPlan proposeAllocation(List<Integer> projectIds) {
+        List<Project> projects = loadPortfolio(projectIds);
         
-        List<ProjectSkillReq> requirements = projectSkillReqDao.findByProjectId(projectId);
+        List<Integer> ids = projects.stream().map(Project::getProjectId).collect(Collectors.toList());
+        Map<Integer, List<ProjectSkillReq>> requirementsByProject = ids.isEmpty()
+                ? Collections.emptyMap()
+                : projectSkillReqDao.findByProjectIds(ids).stream()
+                        .collect(Collectors.groupingBy(ProjectSkillReq::getProjectId));
         
-        List<EmployeeSkill> employeeSkills = employeeSkillDao.findByUserId(userId);
-        Map<Integer, EmployeeSkill> skillMap = employeeSkills.stream()
-                .collect(Collectors.toMap(EmployeeSkill::getSkillId, es -> es));
+        List<Project> staffable = new ArrayList<>();
+        List<Integer> openSlots = new ArrayList<>();
+        int totalSlots = 0;
+        for (Project project : projects) {
+            int headcount = project.getRequiredHeadcount() != null ? project.getRequiredHeadcount() : 0;
+            int open = headcount - assignmentDao.findByProjectId(project.getProjectId()).size();
+            if (open > 0 && requirementsByProject.containsKey(project.getProjectId())) {
+                staffable.add(project);
+                openSlots.add(open);
+                totalSlots += open;
+            }
+        }
         
-        // 1. Calculate Skill Score (0-60 points)
-        float skillScore = calculateSkillScore(requirements, skillMap);
+        AllocationPlan plan = new AllocationPlan();
+        plan.setOpenSlots(totalSlots);
+        plan.setAssignments(new ArrayList<>());
+        if (totalSlots == 0) {
+            return plan;
+        }
         
-        // 2. Calculate Experience Score (0-30 points)
-        float experienceScore = calculateExperienceScore(employeeSkills, requirements);
+        Set<Integer> allSkillIds = staffable.stream()
+                .flatMap(p -> requirementsByProject.get(p.getProjectId()).stream())
+                .map(ProjectSkillReq::getSkillId)
+                .collect(Collectors.toSet());
+        CandidateScorer.Workload workload = candidateScorer.loadWorkload(
+                employeeSkillIndex.findCandidates(allSkillIds).stream()
+                        .map(EmployeeSkillIndex.Profile::getUserId)
+                        .collect(Collectors.toList()));
         
-        // 3. Calculate Availability Score (0-10 points)
-        float availabilityScore = calculateAvailabilityScore(userId);
+        // Best totalSlots candidates per project; their union forms the columns
+        List<List<MatchResult>> shortlists = new ArrayList<>();
+        Map<Integer, Integer> columnOf = new LinkedHashMap<>();
+        List<MatchResult> columnUsers = new ArrayList<>();
+        for (Project project : staffable) {
+            List<ProjectSkillReq> reqs = requirementsByProject.get(project.getProjectId());
+            Set<Integer> skillIds = reqs.stream().map(ProjectSkillReq::getSkillId).collect(Collectors.toSet());
+            TopKCollector<MatchResult> shortlist = new TopKCollector<>(totalSlots, RANKING);
+            candidateScorer.score(employeeSkillIndex.findCandidates(skillIds), project.getProjectId(),
+                    ProjectRequirements.of(reqs), () -> Double.NEGATIVE_INFINITY, workload, shortlist::offer);
+            List<MatchResult> ranked = shortlist.toSortedList();
+            shortlists.add(ranked);
+            for (MatchResult result : ranked) {
+                if (!columnOf.containsKey(result.getUserId())) {
+                    columnOf.put(result.getUserId(), columnUsers.size());
+                    columnUsers.add(result);
+                }
+            }
+        }
         
-        // Total Score
-        float totalScore = (skillScore * 0.6f) + (experienceScore * 0.3f) + (availabilityScore * 0.1f);
+        // Cost = 100 - score; anything not on the shortlist (or a padding column) costs more
+        // than any real candidate, so a slot only stays unfilled when no one is left for it
+        int cols = Math.max(columnUsers.size(), totalSlots);
+        double[][] costs = new double[staffable.size()][cols];
+        MatchResult[][] scored = new MatchResult[staffable.size()][cols];
+        for (int g = 0; g < staffable.size(); g++) {
+            Arrays.fill(costs[g], UNASSIGNABLE_COST);
+            for (MatchResult result : shortlists.get(g)) {
+                int col = columnOf.get(result.getUserId());
+                costs[g][col] = MatchScorer.MAX_COMPONENT_SCORE - result.getTotalScore();
+                scored[g][col] = result;
+            }
+        }
+        
+        int[] rowGroup = new int[totalSlots];
+        for (int g = 0, row = 0; g < staffable.size(); g++) {
+            for (int k = 0; k < openSlots.get(g); k++) {
+                rowGroup[row++] = g;
+            }
+        }
         
-        // Create result
-        MatchResult result = new MatchResult();
-        result.setUserId(userId);
-        result.setSkillScore(skillScore);
-        result.setExperienceScore(experienceScore);
-        result.setAvailabilityScore(availabilityScore);
-        result.setTotalScore(totalScore);
-        result.setEmployeeName(user.getFullName());
-        result.setEmployeeEmail(user.getEmail());
+        long start = System.nanoTime();
+        int[] assignment = HungarianSolver.solve(costs, rowGroup, cols);
+        meterRegistry.timer("talentbridge.match.allocation.solve").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         
-        return result;
+        double totalScore = 0;
+        for (int row = 0; row < totalSlots; row++) {
+            int g = rowGroup[row];
+            MatchResult result = scored[g][assignment[row]];
+            if (result == null) {
+                continue;
+            }
+            Project project = staffable.get(g);
+            ProposedAssignment proposed = new ProposedAssignment();
+            proposed.setProjectId(project.getProjectId());
+            proposed.setProjectName(project.getName());
+            proposed.setUserId(result.getUserId());
+            proposed.setEmployeeName(result.getEmployeeName());
+            proposed.setEmployeeEmail(result.getEmployeeEmail());
+            proposed.setTotalScore(result.getTotalScore());
+            plan.getAssignments().add(proposed);
+            totalScore += result.getTotalScore();
+        }
+        plan.setTotalScore(totalScore);
+        plan.setUnfilledSlots(totalSlots - plan.getAssignments().size());
+        return plan;
     }
     
     /**
-     * Calculate skill match score
-     * For each required skill:
-     * - If employee level >= required level: full points (weight * 100)
-     * - If employee level < required level: partial points (employeeLevel/requiredLevel * weight * 100)
-     * - If skill missing: 0 points
+     * Smallest team of available employees that together meet every requirement of the
+     * project at its desired level, as an unsaved Team whose members createTeam will add.
+     * Candidates already on the project or with no availability are left out; between
+     * equally small teams, higher match scores win.
      */
-    private float calculateSkillScore(List<ProjectSkillReq> requirements, 
-                                     Map<Integer, EmployeeSkill> employeeSkills) {
-        float totalScore = 0;
-        float totalWeight = 0;
+    @Override
+    public Team proposeTeam(Integer projectId) {
+        List<ProjectSkillReq> requirements = loadRequirements(projectId);
+        Project project = projectDao.findById(projectId);
+        ProjectRequirements reqs = ProjectRequirements.of(requirements);
         
-        for (ProjectSkillReq req : requirements) {
-            float weight = req.getWeight() != null ? req.getWeight() : 1.0f;
-            totalWeight += weight;
-            
-            EmployeeSkill empSkill = employeeSkills.get(req.getSkillId());
-            
-            if (empSkill != null) {
-                int empLevel = empSkill.getLevel();
-                int reqLevel = req.getDesiredLevel();
-                
-                if (empLevel >= reqLevel) {
-                    // Employee meets or exceeds requirement
-                    totalScore += (weight * 100);
-                } else {
-                    // Partial credit for lower level
-                    float ratio = (float) empLevel / reqLevel;
-                    totalScore += (ratio * weight * 100);
+        Set<Integer> skillIds = requirements.stream().map(ProjectSkillReq::getSkillId).collect(Collectors.toSet());
+        List<EmployeeSkillIndex.Profile> candidates = employeeSkillIndex.findCandidates(skillIds);
+        Map<Integer, EmployeeSkillIndex.Profile> profiles = candidates.stream()
+                .collect(Collectors.toMap(EmployeeSkillIndex.Profile::getUserId, p -> p));
+        
+        List<MatchResult> available = new ArrayList<>();
+        candidateScorer.score(candidates, projectId, reqs, () -> Double.NEGATIVE_INFINITY, result -> {
+            if (result.getAvailabilityScore() > 0) {
+                available.add(result);
+            }
+        });
+        
+        int words = TeamCoverSolver.words(reqs.size());
+        long[][] masks = new long[available.size()][words];
+        float[] scores = new float[available.size()];
+        for (int c = 0; c < available.size(); c++) {
+            EmployeeSkillIndex.Profile profile = profiles.get(available.get(c).getUserId());
+            for (int r = 0; r < reqs.size(); r++) {
+                if (profile.levelOf(reqs.skillId(r)) >= reqs.desiredLevel(r)) {
+                    masks[c][r >>> 6] |= 1L << r;
                 }
             }
-            // If skill missing, add 0 points
+            scores[c] = available.get(c).getTotalScore();
+        }
+        
+        TeamCoverSolver.Result cover = TeamCoverSolver.solve(masks, scores, reqs.size(), teamNodeBudget);
+        
+        List<String> uncovered = new ArrayList<>();
+        for (int r = 0; r < reqs.size(); r++) {
+            if ((cover.getUncovered()[r >>> 6] & (1L << r)) != 0) {
+                ProjectSkillReq req = requirements.get(r);
+                uncovered.add((req.getSkillName() != null ? req.getSkillName() : "skill " + req.getSkillId())
+                        + " (level " + req.getDesiredLevel() + ")");
+            }
+        }
+        if (!uncovered.isEmpty()) {
+            throw new CustomException("No available employee meets: " + String.join(", ", uncovered));
+        }
+        if (!cover.isOptimal()) {
+            logger.info("Team search for project {} hit the node budget; returning the best team found", projectId);
         }
         
-        // Normalize to 100
-        if (totalWeight > 0) {
-            return (totalScore / totalWeight);
+        List<TeamMember> members = new ArrayList<>();
+        for (int c : cover.getMembers()) {
+            MatchResult result = available.get(c);
+            TeamMember member = new TeamMember(null, result.getUserId(), "MEMBER");
+            member.setUserName(result.getEmployeeName());
+            member.setUserEmail(result.getEmployeeEmail());
+            members.add(member);
         }
         
-        return 0;
+        Team team = new Team();
+        team.setName(project.getName() + " Team");
+        team.setProjectId(projectId);
+        team.setProjectName(project.getName());
+        team.setMembers(members);
+        team.setMemberCount(members.size());
+        return team;
+    }
+    
+    private List<Project> loadPortfolio(List<Integer> projectIds) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            return projectDao.findByStatus("OPEN");
+        }
+        List<Project> projects = new ArrayList<>();
+        for (Integer projectId : new LinkedHashSet<>(projectIds)) {
+            Project project = projectDao.findById(projectId);
+            if (project == null) {
+                throw new ResourceNotFoundException("Project not found with id: " + projectId);
+            }
+            projects.add(project);
+        }
+        return projects;
     }
     
     /**
-     * Calculate experience score based on years of experience
-     * Takes the average years of experience across all employee skills
-     * Compares with typical requirement (assume 3-5 years for mid-level projects)
+     * Best-fit OPEN projects for one employee, from a single pass over their skills in
+     * the project requirement index. Projects the employee is already assigned to are
+     * left out, as in the project-to-candidates direction.
      */
-    private float calculateExperienceScore(List<EmployeeSkill> employeeSkills, 
-                                          List<ProjectSkillReq> requirements) {
-        if (employeeSkills.isEmpty()) {
-            return 0;
+    @Override
+    public List<ProjectMatch> findProjectsFor(Integer userId, int limit) {
+        if (userDao.findById(userId) == null) {
+            throw new ResourceNotFoundException("User not found");
         }
+        EmployeeSkillIndex.Profile profile = employeeSkillIndex.getProfile(userId);
+        if (profile == null) {
+            throw new CustomException("Project matching is only available for active employees");
+        }
+        limit = PagingUtil.validateSize(limit);
         
-        // Calculate average years of experience
-        double avgExperience = employeeSkills.stream()
-                .mapToInt(EmployeeSkill::getYearsExperience)
-                .average()
-                .orElse(0);
-        
-        // Assume required experience based on desired level
-        // Level 1-2: 0-2 years, Level 3: 3-5 years, Level 4-5: 5+ years
-        int maxDesiredLevel = requirements.stream()
-                .mapToInt(ProjectSkillReq::getDesiredLevel)
-                .max()
-                .orElse(3);
+        List<Assignment> assignments = assignmentDao.findByUserId(userId);
+        Set<Integer> assignedProjects = assignments.stream()
+                .map(Assignment::getProjectId)
+                .collect(Collectors.toSet());
+        Integer percentAvailable = assignments.isEmpty()
+                ? null
+                : employeeAvailabilityDao.findCurrentPercentAvailable(userId);
+        float availabilityScore = MatchScorer.availabilityScore(!assignments.isEmpty(), percentAvailable);
         
-        float requiredExperience;
-        if (maxDesiredLevel <= 2) {
-            requiredExperience = 2;
-        } else if (maxDesiredLevel == 3) {
-            requiredExperience = 5;
-        } else {
-            requiredExperience = 7;
+        TopKCollector<ProjectMatch> ranking = new TopKCollector<>(limit, PROJECT_RANKING);
+        projectRequirementIndex.matchSkills(profile, (project, skillScore) -> {
+            if (assignedProjects.contains(project.getProjectId())) {
+                return;
+            }
+            float experienceScore = MatchScorer.experienceScore(project.getRequirements(),
+                    profile.getSkillCount(), profile.getAverageYears());
+            
+            ProjectMatch match = new ProjectMatch();
+            match.setProjectId(project.getProjectId());
+            match.setProjectName(project.getName());
+            match.setSkillScore(skillScore);
+            match.setExperienceScore(experienceScore);
+            match.setAvailabilityScore(availabilityScore);
+            match.setTotalScore(MatchScorer.totalScore(skillScore, experienceScore, availabilityScore));
+            ranking.offer(match);
+        });
+        return ranking.toSortedList();
+    }
+    
+    /**
+     * Active employees whose skill profile is closest to the given user's. The user may
+     * be inactive (someone who has left), in which case their profile is read from the
+     * database.
+     */
+    @Override
+    public List<SimilarEmployee> findSimilarEmployees(Integer userId, int limit) {
+        User user = userDao.findById(userId);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
         }
+        limit = PagingUtil.validateSize(limit);
         
-        // Calculate score (cap at 100)
-        float score = (float) ((avgExperience / requiredExperience) * 100);
-        return Math.min(score, 100);
+        EmployeeSkillIndex.Profile profile = employeeSkillIndex.getProfile(userId);
+        if (profile == null) {
+            profile = EmployeeSkillIndex.Profile.of(user, employeeSkillDao.findByUserId(userId));
+        }
+        return skillVectorIndex.findSimilar(profile, limit);
     }
     
     /**
-     * Calculate availability score
-     * Check if user is currently available (not assigned to other projects)
+     * Ranks the candidate pool against requirements that are not saved anywhere. Skills
+     * come from the in-memory index and only the leading candidates' assignments and
+     * availability are read; nothing is written. The histogram buckets the skill score of
+     * everyone holding at least one of the skills.
      */
-    private float calculateAvailabilityScore(Integer userId) {
-        // Check current assignments
-        List<Assignment> currentAssignments = assignmentDao.findByUserId(userId);
-        
-        if (currentAssignments.isEmpty()) {
-            return 100; // Fully available
+    @Override
+    @Transactional(readOnly = true)
+    public SimulationResult simulate(SimulationRequest request) {
+        List<ProjectSkillReq> requirements = request != null ? request.getRequirements() : null;
+        if (requirements == null || requirements.isEmpty()) {
+            throw new CustomException("At least one requirement is needed");
+        }
+        Set<Integer> skillIds = new HashSet<>();
+        for (ProjectSkillReq req : requirements) {
+            if (req.getSkillId() == null) {
+                throw new CustomException("Every requirement needs a skillId");
+            }
+            if (!skillIds.add(req.getSkillId())) {
+                throw new CustomException("Skill " + req.getSkillId() + " is required more than once");
+            }
+            if (req.getDesiredLevel() == null) {
+                req.setDesiredLevel(3);
+            }
+            if (req.getDesiredLevel() < 1 || req.getDesiredLevel() > 5) {
+                throw new CustomException("Desired level must be between 1 and 5");
+            }
+            if (req.getWeight() != null && (req.getWeight() < 0 || req.getWeight() > 1)) {
+                throw new CustomException("Weight must be between 0 and 1");
+            }
+        }
+        if (request.getProjectId() != null && projectDao.findById(request.getProjectId()) == null) {
+            throw new ResourceNotFoundException("Project not found with id: " + request.getProjectId());
         }
+        int limit = PagingUtil.validateSize(request.getLimit() != null ? request.getLimit() : 10);
         
-        // Check employee_availability table
-        String sql = "SELECT percent_available FROM employee_availability " +
-                    "WHERE user_id = ? AND (to_date IS NULL OR to_date >= CURRENT_DATE) " +
-                    "ORDER BY from_date DESC LIMIT 1";
+        ProjectRequirements reqs = ProjectRequirements.of(requirements);
+        List<EmployeeSkillIndex.Profile> candidates = employeeSkillIndex.findCandidates(skillIds);
+        float[] skillScores = candidateScorer.skillScores(candidates, reqs);
         
-        List<Integer> availability = jdbcTemplate.query(sql, 
-            (rs, rowNum) -> rs.getInt("percent_available"), userId);
+        TopKCollector<MatchResult> ranking = new TopKCollector<>(limit, RANKING);
+        DoubleSupplier cutoff = () -> {
+            MatchResult worstKept = ranking.threshold();
+            return worstKept != null ? worstKept.getTotalScore() : Double.NEGATIVE_INFINITY;
+        };
+        candidateScorer.score(candidates, skillScores, request.getProjectId(), reqs, cutoff, null, ranking::offer);
         
-        if (!availability.isEmpty()) {
-            return availability.get(0).floatValue();
+        SimulationResult result = new SimulationResult();
+        result.setPoolSize(candidates.size());
+        result.setCandidates(ranking.toSortedList());
+        result.setSkillScoreHistogram(histogram(skillScores));
+        return result;
+    }
+    
+    private List<ScoreBucket> histogram(float[] scores) {
+        int buckets = (int) MatchScorer.MAX_COMPONENT_SCORE / HISTOGRAM_BUCKET_WIDTH;
+        int[] counts = new int[buckets];
+        for (float score : scores) {
+            counts[Math.min(buckets - 1, Math.max(0, (int) (score / HISTOGRAM_BUCKET_WIDTH)))]++;
         }
-        
-        // Default: if assigned to projects, assume 50% available
-        return 50;
+        List<ScoreBucket> histogram = new ArrayList<>(buckets);
+        for (int b = 0; b < buckets; b++) {
+            histogram.add(new ScoreBucket(b * HISTOGRAM_BUCKET_WIDTH, (b + 1) * HISTOGRAM_BUCKET_WIDTH, counts[b]));
+        }
+        return histogram;
     }
     
-    private List<Integer> findCandidateEmployees(Set<Integer> requiredSkillIds) {
-        if (requiredSkillIds.isEmpty()) {
-            return new ArrayList<>();
+    @Override
+    public MatchResult calculateScore(Integer userId, Integer projectId) {
+        User user = userDao.findById(userId);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
         }
         
-        String placeholders = String.join(",", Collections.nCopies(requiredSkillIds.size(), "?"));
-        String sql = "SELECT DISTINCT es.user_id FROM employee_skills es " +
-                    "JOIN users u ON es.user_id = u.user_id " +
-                    "WHERE es.skill_id IN (" + placeholders + ") " +
-                    "AND u.role = 'EMPLOYEE' AND u.is_active = TRUE";
+        ProjectRequirements requirements = ProjectRequirements.of(projectSkillReqDao.findByProjectId(projectId));
+        
+        List<EmployeeSkill> employeeSkills = employeeSkillDao.findByUserId(userId);
+        Map<Integer, Integer> levels = employeeSkills.stream()
+                .collect(Collectors.toMap(EmployeeSkill::getSkillId, EmployeeSkill::getLevel));
+        long totalYears = employeeSkills.stream().mapToLong(EmployeeSkill::getYearsExperience).sum();
+        
+        // 1. Calculate Skill Score (0-60 points)
+        float skillScore = MatchScorer.skillScore(requirements, skillId -> levels.getOrDefault(skillId, 0));
+        
+        // 2. Calculate Experience Score (0-30 points)
+        float experienceScore = MatchScorer.experienceScore(requirements, employeeSkills.size(),
+                MatchScorer.averageYears(totalYears, employeeSkills.size()));
+        
+        // 3. Calculate Availability Score (0-10 points)
+        boolean hasAssignments = !assignmentDao.findByUserId(userId).isEmpty();
+        Integer percentAvailable = hasAssignments
+                ? employeeAvailabilityDao.findCurrentPercentAvailable(userId)
+                : null;
+        float availabilityScore = MatchScorer.availabilityScore(hasAssignments, percentAvailable);
         
-        return jdbcTemplate.query(sql, 
-            (rs, rowNum) -> rs.getInt("user_id"), 
-            requiredSkillIds.toArray());
+        return CandidateScorer.toResult(userId, user.getFullName(), user.getEmail(),
+                skillScore, experienceScore, availabilityScore);
     }
     
     private Integer createMatchRecord(Integer projectId, Integer requestedBy) {
-        String sql = "INSERT INTO matches (project_id, requested_by, status) " +
-                    "VALUES (?, ?, 'PENDING') RETURNING match_id";
-        return jdbcTemplate.queryForObject(sql, Integer.class, projectId, requestedBy);
+        Integer matchId = matchDao.createMatch(projectId, requestedBy);
+        matchProgressTracker.start(matchId);
+        return matchId;
     }
     
-    private void saveMatchResult(MatchResult result) {
-        String sql = "INSERT INTO match_results (match_id, user_id, total_score, skill_score, " +
-                    "experience_score, availability_score) VALUES (?, ?, ?, ?, ?, ?)";
-        jdbcTemplate.update(sql, result.getMatchId(), result.getUserId(), 
-                           result.getTotalScore(), result.getSkillScore(), 
-                           result.getExperienceScore(), result.getAvailabilityScore());
+    private int flushResults(List<MatchResult> pending, long[] persistNanos) {
+        int rows = pending.size();
+        if (rows > 0) {
+            long start = System.nanoTime();
+            matchDao.saveResults(pending);
+            persistNanos[0] += System.nanoTime() - start;
+            pending.clear();
+        }
+        return rows;
+    }
+    
+    private void recordPersistMetrics(long persistNanos, int persistedRows) {
+        meterRegistry.timer("talentbridge.match.persist").record(persistNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("talentbridge.match.persisted.rows").increment(persistedRows);
     }
     
     private void updateMatchStatus(Integer matchId, String status) {
-        String sql = "UPDATE matches SET status = ? WHERE match_id = ?";
-        jdbcTemplate.update(sql, status, matchId);
+        matchDao.updateStatus(matchId, status);
+        if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
+            matchProgressTracker.finish(matchId, status);
+        }
     }
 }
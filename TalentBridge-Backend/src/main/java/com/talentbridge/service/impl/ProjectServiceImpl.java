@@ -3,11 +3,16 @@ package com.talentbridge.service.impl;
 import com.talentbridge.dao.ProjectDao;
 import com.talentbridge.exception.CustomException;
 import com.talentbridge.exception.ResourceNotFoundException;
+import com.talentbridge.matching.ProjectRequirementIndex;
+import com.talentbridge.model.KeysetPage;
 import com.talentbridge.model.Project;
+import com.talentbridge.service.CandidateScoreService;
 import com.talentbridge.service.ProjectService;
+import com.talentbridge.util.KeysetCursor;
 import com.talentbridge.util.PagingUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Set;
@@ -23,6 +28,12 @@ public class ProjectServiceImpl implements ProjectService {
     @Autowired
     private ProjectDao projectDao;
 
+    @Autowired
+    private CandidateScoreService candidateScoreService;
+
+    @Autowired
+    private ProjectRequirementIndex projectRequirementIndex;
+
     @Override
     public List<Project> getAllProjects(int page, int size) {
         page = PagingUtil.validatePage(page);
@@ -31,6 +42,13 @@ public class ProjectServiceImpl implements ProjectService {
         return projectDao.findAll(offset, size);
     }
 
+    @Override
+    public KeysetPage<Project> getAllProjectsAfter(String cursor, int size) {
+        size = PagingUtil.validateSize(size);
+        List<Project> rows = projectDao.findAllAfter(KeysetCursor.decode(cursor), size + 1);
+        return KeysetCursor.page(rows, size, p -> new KeysetCursor(p.getCreatedAt(), p.getProjectId()));
+    }
+
     @Override
     public Project getProjectById(Integer projectId) {
         Project project = projectDao.findById(projectId);
@@ -49,8 +67,10 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional
     public void updateProject(Project project) {
-        if (projectDao.findById(project.getProjectId()) == null) {
+        Project existing = projectDao.findById(project.getProjectId());
+        if (existing == null) {
             throw new ResourceNotFoundException("Project not found");
         }
 
@@ -58,6 +78,11 @@ public class ProjectServiceImpl implements ProjectService {
             project.setStatus(normalizeStatus(project.getStatus()));
         }
         projectDao.update(project);
+        projectRequirementIndex.refreshProject(project.getProjectId());
+
+        if (project.getStatus() != null && !project.getStatus().equals(existing.getStatus())) {
+            candidateScoreService.refreshProject(project.getProjectId());
+        }
     }
 
     @Override
@@ -66,6 +91,7 @@ public class ProjectServiceImpl implements ProjectService {
             throw new ResourceNotFoundException("Project not found");
         }
         projectDao.delete(projectId);
+        projectRequirementIndex.refreshProject(projectId);
     }
 
     @Override
@@ -5,10 +5,13 @@ import com.talentbridge.dao.SkillDao;
 import com.talentbridge.dao.ProjectDao;
 import com.talentbridge.exception.CustomException;
 import com.talentbridge.exception.ResourceNotFoundException;
+import com.talentbridge.matching.ProjectRequirementIndex;
 import com.talentbridge.model.ProjectSkillReq;
+import com.talentbridge.service.CandidateScoreService;
 import com.talentbridge.service.ProjectSkillReqService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
@@ -23,6 +26,12 @@ public class ProjectSkillReqServiceImpl implements ProjectSkillReqService {
     @Autowired
     private SkillDao skillDao;
     
+    @Autowired
+    private CandidateScoreService candidateScoreService;
+    
+    @Autowired
+    private ProjectRequirementIndex projectRequirementIndex;
+    
     @Override
     public List<ProjectSkillReq> getProjectRequirements(Integer projectId) {
         if (projectDao.findById(projectId) == null) {
@@ -32,6 +41,7 @@ public class ProjectSkillReqServiceImpl implements ProjectSkillReqService {
     }
     
     @Override
+    @Transactional
     public Integer addRequirement(ProjectSkillReq req) {
         if (projectDao.findById(req.getProjectId()) == null) {
             throw new ResourceNotFoundException("Project not found");
@@ -49,10 +59,14 @@ public class ProjectSkillReqServiceImpl implements ProjectSkillReqService {
             throw new CustomException("Weight must be between 0 and 1");
         }
         
-        return projectSkillReqDao.save(req);
+        Integer id = projectSkillReqDao.save(req);
+        candidateScoreService.refreshProject(req.getProjectId());
+        projectRequirementIndex.refreshProject(req.getProjectId());
+        return id;
     }
     
     @Override
+    @Transactional
     public void updateRequirement(ProjectSkillReq req) {
         if (req.getDesiredLevel() < 1 || req.getDesiredLevel() > 5) {
             throw new CustomException("Desired level must be between 1 and 5");
@@ -62,11 +76,22 @@ public class ProjectSkillReqServiceImpl implements ProjectSkillReqService {
             throw new CustomException("Weight must be between 0 and 1");
         }
         
+        ProjectSkillReq existing = projectSkillReqDao.findById(req.getId());
         projectSkillReqDao.update(req);
+        if (existing != null) {
+            candidateScoreService.refreshProject(existing.getProjectId());
+            projectRequirementIndex.refreshProject(existing.getProjectId());
+        }
     }
     
     @Override
+    @Transactional
     public void deleteRequirement(Integer id) {
+        ProjectSkillReq existing = projectSkillReqDao.findById(id);
         projectSkillReqDao.delete(id);
+        if (existing != null) {
+            candidateScoreService.refreshProject(existing.getProjectId());
+            projectRequirementIndex.refreshProject(existing.getProjectId());
+        }
     }
 }
\ No newline at end of file
@@ -1,13 +1,19 @@
 package com.talentbridge.service.impl;
 
+import com.talentbridge.dao.ProjectSkillReqDao;
 import com.talentbridge.dao.SkillDao;
 import com.talentbridge.exception.CustomException;
 import com.talentbridge.exception.ResourceNotFoundException;
+import com.talentbridge.matching.EmployeeSkillIndex;
+import com.talentbridge.matching.ProjectRequirementIndex;
 import com.talentbridge.model.Skill;
+import com.talentbridge.service.CandidateScoreService;
 import com.talentbridge.service.SkillService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 public class SkillServiceImpl implements SkillService {
@@ -15,6 +21,18 @@ public class SkillServiceImpl implements SkillService {
     @Autowired
     private SkillDao skillDao;
     
+    @Autowired
+    private EmployeeSkillIndex employeeSkillIndex;
+    
+    @Autowired
+    private ProjectSkillReqDao projectSkillReqDao;
+    
+    @Autowired
+    private CandidateScoreService candidateScoreService;
+    
+    @Autowired
+    private ProjectRequirementIndex projectRequirementIndex;
+    
     @Override
     public List<Skill> getAllSkills() {
         return skillDao.findAll();
@@ -51,7 +69,15 @@ public class SkillServiceImpl implements SkillService {
         if (skillDao.findById(skillId) == null) {
             throw new ResourceNotFoundException("Skill not found with id: " + skillId);
         }
+        List<Integer> holders = Arrays.stream(employeeSkillIndex.getUsersWithSkill(skillId)).boxed()
+                .collect(Collectors.toList());
+        List<Integer> requiringProjects = projectSkillReqDao.findProjectIdsBySkillId(skillId);
         skillDao.delete(skillId);
+        employeeSkillIndex.refreshUsers(holders);
+        // Requirement weights changed for every candidate of these projects; holders lost a skill everywhere
+        projectRequirementIndex.refreshProjects(requiringProjects);
+        candidateScoreService.refreshProjects(requiringProjects);
+        candidateScoreService.refreshUsers(holders);
     }
 }
 
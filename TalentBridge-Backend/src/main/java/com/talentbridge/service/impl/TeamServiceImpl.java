@@ -14,7 +14,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class TeamServiceImpl implements TeamService {
@@ -36,6 +38,24 @@ public class TeamServiceImpl implements TeamService {
 
         // Add creator as LEADER
         teamDao.addTeamMember(new TeamMember(teamId, team.getCreatedBy(), "LEADER"));
+
+        // Members proposed up front, e.g. by the team builder
+        if (team.getMembers() != null) {
+            Set<Integer> added = new HashSet<>();
+            added.add(team.getCreatedBy());
+            for (TeamMember member : team.getMembers()) {
+                if (member.getUserId() == null || !added.add(member.getUserId())) {
+                    continue;
+                }
+                if (userDao.findById(member.getUserId()) == null) {
+                    throw new ResourceNotFoundException("Employee does not exist");
+                }
+                teamDao.addTeamMember(new TeamMember(teamId, member.getUserId(),
+                        member.getRole() != null ? member.getRole() : "MEMBER"));
+                notificationService.createNotification(member.getUserId(),
+                    "You have been added to team: " + team.getName(), "TEAM_UPDATE");
+            }
+        }
         return teamDao.findTeamById(teamId);
     }
 
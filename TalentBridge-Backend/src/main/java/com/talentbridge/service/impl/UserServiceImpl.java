@@ -2,8 +2,12 @@ package com.talentbridge.service.impl;
 
 import com.talentbridge.dao.UserDao;
 import com.talentbridge.exception.ResourceNotFoundException;
+import com.talentbridge.matching.EmployeeSkillIndex;
+import com.talentbridge.model.KeysetPage;
 import com.talentbridge.model.User;
+import com.talentbridge.service.CandidateScoreService;
 import com.talentbridge.service.UserService;
+import com.talentbridge.util.KeysetCursor;
 import com.talentbridge.util.PagingUtil;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +23,12 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private UserDao userDao;
     
+    @Autowired
+    private EmployeeSkillIndex employeeSkillIndex;
+    
+    @Autowired
+    private CandidateScoreService candidateScoreService;
+    
     @Override
     public User getUserById(Integer userId) {
         User user = userDao.findById(userId);
@@ -45,12 +55,21 @@ public class UserServiceImpl implements UserService {
         return userDao.findAll(offset, size);
     }
     
+    @Override
+    public KeysetPage<User> getAllUsersAfter(String cursor, int size) {
+        size = PagingUtil.validateSize(size);
+        List<User> rows = userDao.findAllAfter(KeysetCursor.decode(cursor), size + 1);
+        return KeysetCursor.page(rows, size, u -> new KeysetCursor(u.getCreatedAt(), u.getUserId()));
+    }
+    
     @Override
     public void updateUser(User user) {
         if (userDao.findById(user.getUserId()) == null) {
             throw new ResourceNotFoundException("User not found");
         }
         userDao.update(user);
+        employeeSkillIndex.refreshUser(user.getUserId());
+        candidateScoreService.refreshUser(user.getUserId());
     }
     
     @Override
@@ -59,6 +78,8 @@ public class UserServiceImpl implements UserService {
             throw new ResourceNotFoundException("User not found");
         }
         userDao.delete(userId);
+        employeeSkillIndex.refreshUser(userId);
+        candidateScoreService.refreshUser(userId);
     }
     
     @Override
@@ -87,6 +108,13 @@ public class UserServiceImpl implements UserService {
         int offset = PagingUtil.calculateOffset(page, size);
         return userDao.findInactive(offset, size);
     }
+    
+    @Override
+    public KeysetPage<User> getInactiveUsersAfter(String cursor, int size) {
+        size = PagingUtil.validateSize(size);
+        List<User> rows = userDao.findInactiveAfter(KeysetCursor.decode(cursor), size + 1);
+        return KeysetCursor.page(rows, size, u -> new KeysetCursor(u.getCreatedAt(), u.getUserId()));
+    }
 
     @Override
     public void reactivateUser(Integer userId) {
@@ -94,5 +122,7 @@ public class UserServiceImpl implements UserService {
             throw new ResourceNotFoundException("User not found");
         }
         userDao.reactivate(userId);
+        employeeSkillIndex.refreshUser(userId);
+        candidateScoreService.refreshUser(userId);
     }
 }
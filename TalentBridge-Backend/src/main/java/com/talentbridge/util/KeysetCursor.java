@@ -0,0 +1,66 @@
+package com.talentbridge.util;
+
+import com.talentbridge.exception.CustomException;
+import com.talentbridge.model.KeysetPage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Position in a listing ordered by (created_at DESC, id DESC): the last row of the page
+ * before. The next page is the rows strictly after it, found through an index on the same
+ * columns, so every page costs the same however deep it is and rows inserted meanwhile
+ * do not shift it. Clients see the position only as an opaque string.
+ */
+public final class KeysetCursor {
+
+    private final LocalDateTime createdAt;
+    private final int id;
+
+    public KeysetCursor(LocalDateTime createdAt, int id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public int getId() { return id; }
+
+    public String encode() {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The position a client sent back, or null (first page) when it sent none.
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.lastIndexOf(',');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, comma)),
+                    Integer.parseInt(raw.substring(comma + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CustomException("Invalid cursor");
+        }
+    }
+
+    /**
+     * A page of at most {@code size} rows from {@code rows}, which the caller fetched with
+     * a limit of size + 1: an extra row means there is a next page.
+     */
+    public static <T> KeysetPage<T> page(List<T> rows, int size, Function<T, KeysetCursor> positionOf) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new KeysetPage<>(items, positionOf.apply(items.get(size - 1)).encode());
+    }
+}
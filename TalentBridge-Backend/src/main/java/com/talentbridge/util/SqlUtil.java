@@ -0,0 +1,26 @@
+package com.talentbridge.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SqlUtil {
+
+    /**
+     * Upper bound for the number of bind parameters in a single IN (...) list.
+     * PostgreSQL caps a statement at 32767 parameters; staying well below keeps plans cheap.
+     */
+    public static final int IN_CHUNK_SIZE = 1000;
+
+    public static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    public static <T> List<List<T>> partition(List<T> values, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += size) {
+            chunks.add(values.subList(i, Math.min(i + size, values.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,5 @@
+-- =============================================
+-- V5: Ranked reads of match_results
+-- =============================================
+
+CREATE INDEX IF NOT EXISTS idx_match_results_match_score ON match_results (match_id, total_score DESC);
@@ -0,0 +1,23 @@
+-- =============================================
+-- V6: Materialized candidate scores per project
+-- =============================================
+
+CREATE TABLE IF NOT EXISTS project_candidate_scores (
+    project_id         INTEGER   NOT NULL REFERENCES projects (project_id) ON DELETE CASCADE,
+    user_id            INTEGER   NOT NULL REFERENCES users (user_id) ON DELETE CASCADE,
+    total_score        REAL      NOT NULL,
+    skill_score        REAL      NOT NULL,
+    experience_score   REAL      NOT NULL,
+    availability_score REAL      NOT NULL,
+    computed_at        TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (project_id, user_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_pcs_project_score ON project_candidate_scores (project_id, total_score DESC, user_id);
+CREATE INDEX IF NOT EXISTS idx_pcs_user          ON project_candidate_scores (user_id);
+
+-- Projects whose scores have been materialized and are kept up to date
+CREATE TABLE IF NOT EXISTS project_candidate_score_builds (
+    project_id INTEGER   PRIMARY KEY REFERENCES projects (project_id) ON DELETE CASCADE,
+    built_at   TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,7 @@
+-- =============================================
+-- V7: Indexes for keyset pagination
+-- =============================================
+
+-- Listings ordered by (created_at DESC, id DESC), read backwards from the cursor
+CREATE INDEX IF NOT EXISTS idx_users_active_created ON users (is_active, created_at, user_id);
+CREATE INDEX IF NOT EXISTS idx_projects_created     ON projects (created_at, project_id);
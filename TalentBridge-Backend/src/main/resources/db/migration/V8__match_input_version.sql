@@ -0,0 +1,12 @@
+-- =============================================
+-- V8: Version counter of match inputs
+-- =============================================
+
+-- One row, bumped after every committed change to assignments or availability, so the
+-- match result cache can tell whether its inputs changed with a primary-key read
+CREATE TABLE IF NOT EXISTS match_input_version (
+    id      SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    version BIGINT   NOT NULL DEFAULT 0
+);
+
+INSERT INTO match_input_version (id, version) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,175 @@
+package com.talentbridge.dao.impl;
+
+import com.talentbridge.matching.EmployeeSkillIndex;
+import com.talentbridge.model.MatchOptions;
+import com.talentbridge.model.MatchResult;
+import com.talentbridge.service.MatchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The SQL pushdown (MatchDaoImpl.scoreAndSaveResults) and the in-memory engine must rank
+ * the same candidates with bit-identical scores. Both run against one seeded database:
+ * fractional and missing weights, partial skill levels, inactive and non-employee users,
+ * assignments on and off the project, and current, expired and superseded availability.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret=parity-test-secret-parity-test-secret-parity-test-secret",
+        "match.cache.enabled=false"})
+@Testcontainers(disabledWithoutDocker = true)
+class MatchScoringParityTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private EmployeeSkillIndex employeeSkillIndex;
+
+    /** Seeded once; the container and the application context outlive each test. */
+    private static Integer projectId;
+
+    @BeforeEach
+    void seed() {
+        if (projectId != null) {
+            return;
+        }
+        Random random = new Random(2024);
+
+        int[] skills = new int[5];
+        for (int s = 0; s < skills.length; s++) {
+            skills[s] = jdbcTemplate.queryForObject(
+                    "INSERT INTO skills (name) VALUES (?) RETURNING skill_id", Integer.class, "skill-" + s);
+        }
+
+        int parityProjectId = insertProject("parity");
+        int otherProjectId = insertProject("other");
+        insertRequirement(parityProjectId, skills[0], 3, null);
+        insertRequirement(parityProjectId, skills[1], 5, 2.5f);
+        insertRequirement(parityProjectId, skills[2], 2, 0.7f);
+        insertRequirement(parityProjectId, skills[3], 4, 1.3f);
+        insertRequirement(otherProjectId, skills[4], 2, 1f);
+
+        for (int u = 0; u < 60; u++) {
+            String role = u % 17 == 0 ? "MANAGER" : "EMPLOYEE";
+            boolean active = u % 13 != 0;
+            int userId = jdbcTemplate.queryForObject(
+                    "INSERT INTO users (full_name, email, password_hash, role, is_active) " +
+                    "VALUES (?, ?, 'x', ?, ?) RETURNING user_id",
+                    Integer.class, "Employee " + u, "employee" + u + "@parity.test", role, active);
+
+            for (int skillId : skills) {
+                if (random.nextInt(3) != 0) {
+                    jdbcTemplate.update("INSERT INTO employee_skills (user_id, skill_id, level, years_experience) " +
+                                        "VALUES (?, ?, ?, ?)",
+                            userId, skillId, 1 + random.nextInt(5), random.nextInt(16));
+                }
+            }
+
+            switch (random.nextInt(5)) {
+                case 0 -> insertAssignment(otherProjectId, userId, "ASSIGNED");
+                case 1 -> insertAssignment(parityProjectId, userId, "ASSIGNED");
+                case 2 -> insertAssignment(otherProjectId, userId, "RELEASED");
+                default -> { }
+            }
+
+            // Latest window first by from_date; expired windows must be ignored
+            switch (random.nextInt(4)) {
+                case 0 -> insertAvailability(userId, 10 * random.nextInt(11), "CURRENT_DATE - 30", null);
+                case 1 -> {
+                    insertAvailability(userId, 10 * random.nextInt(11), "CURRENT_DATE - 60", null);
+                    insertAvailability(userId, 10 * random.nextInt(11), "CURRENT_DATE - 10", "CURRENT_DATE + 20");
+                }
+                case 2 -> insertAvailability(userId, 10 * random.nextInt(11), "CURRENT_DATE - 90", "CURRENT_DATE - 1");
+                default -> { }
+            }
+        }
+
+        employeeSkillIndex.reload();
+        projectId = parityProjectId;
+    }
+
+    @Test
+    void everyCandidateScoresTheSameInBothModes() {
+        List<MatchResult> java = run(new MatchOptions(null, 0, null, true), MatchOptions.Mode.JAVA);
+        List<MatchResult> sql = run(new MatchOptions(null, 0, null, true), MatchOptions.Mode.SQL);
+
+        assertFalse(java.isEmpty());
+        assertSameRanking(java, sql);
+    }
+
+    @Test
+    void windowAndMinScoreSelectTheSameCandidates() {
+        List<MatchResult> java = run(new MatchOptions(10, 5, 40f, false), MatchOptions.Mode.JAVA);
+        List<MatchResult> sql = run(new MatchOptions(10, 5, 40f, false), MatchOptions.Mode.SQL);
+
+        assertSameRanking(java, sql);
+    }
+
+    private List<MatchResult> run(MatchOptions options, MatchOptions.Mode mode) {
+        options.setMode(mode);
+        return matchService.findCandidates(projectId, null, options);
+    }
+
+    private static void assertSameRanking(List<MatchResult> java, List<MatchResult> sql) {
+        assertEquals(java.size(), sql.size());
+        for (int i = 0; i < java.size(); i++) {
+            MatchResult expected = java.get(i);
+            MatchResult actual = sql.get(i);
+            String row = "rank " + i + ", user " + expected.getUserId();
+            assertEquals(expected.getUserId(), actual.getUserId(), row);
+            assertEquals(expected.getSkillScore(), actual.getSkillScore(), row);
+            assertEquals(expected.getExperienceScore(), actual.getExperienceScore(), row);
+            assertEquals(expected.getAvailabilityScore(), actual.getAvailabilityScore(), row);
+            assertEquals(expected.getTotalScore(), actual.getTotalScore(), row);
+        }
+    }
+
+    private int insertProject(String name) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, required_headcount) VALUES (?, 3) RETURNING project_id",
+                Integer.class, name);
+    }
+
+    private void insertRequirement(int project, int skillId, int desiredLevel, Float weight) {
+        jdbcTemplate.update("INSERT INTO project_skill_requirements (project_id, skill_id, desired_level, weight) " +
+                            "VALUES (?, ?, ?, ?)", project, skillId, desiredLevel, weight);
+    }
+
+    private void insertAssignment(int project, int userId, String status) {
+        jdbcTemplate.update("INSERT INTO assignments (project_id, user_id, status) VALUES (?, ?, ?)",
+                project, userId, status);
+    }
+
+    private void insertAvailability(int userId, int percent, String fromDate, String toDate) {
+        jdbcTemplate.update("INSERT INTO employee_availability (user_id, percent_available, from_date, to_date) " +
+                            "VALUES (?, ?, " + fromDate + ", " + (toDate != null ? toDate : "NULL") + ")",
+                userId, percent);
+    }
+}
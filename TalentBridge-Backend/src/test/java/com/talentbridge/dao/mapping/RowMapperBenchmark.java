@@ -0,0 +1,167 @@
+package com.talentbridge.dao.mapping;
+
+import com.talentbridge.model.Team;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping a 10k-row team listing by column name with a try/catch per optional column
+ * (the old TeamDaoImpl mapper) vs through {@link Columns}, with and without the joined
+ * columns in the result. Without them the old mapper throws three exceptions per row.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.talentbridge.dao.mapping.RowMapperBenchmark}; the gc profiler
+ * reports allocation per operation. The rows sit in a CachedRowSet, whose missing-column
+ * error is a SQLException like the driver's. Setup fails if the mappers disagree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMapperBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"false", "true"})
+    private boolean joined;
+
+    private CachedRowSet resultSet;
+
+    private final RowMapper<Team> byName = (rs, rowNum) -> {
+        Team t = new Team();
+        t.setTeamId(rs.getInt("team_id"));
+        t.setName(rs.getString("name"));
+        t.setProjectId(rs.getInt("project_id"));
+        t.setCreatedBy(rs.getInt("created_by"));
+        t.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+
+        try { t.setProjectName(rs.getString("project_name")); } catch (Exception ignored) {}
+        try { t.setCreatorName(rs.getString("creator_name")); } catch (Exception ignored) {}
+        try { t.setMemberCount(rs.getInt("member_count")); } catch (Exception ignored) {}
+
+        return t;
+    };
+
+    private static final Columns TEAM = new Columns();
+    private static final int TEAM_ID = TEAM.required("team_id");
+    private static final int TEAM_NAME = TEAM.required("name");
+    private static final int TEAM_PROJECT_ID = TEAM.required("project_id");
+    private static final int TEAM_CREATED_BY = TEAM.required("created_by");
+    private static final int TEAM_CREATED_AT = TEAM.required("created_at");
+    private static final int TEAM_PROJECT_NAME = TEAM.optional("project_name");
+    private static final int TEAM_CREATOR_NAME = TEAM.optional("creator_name");
+    private static final int TEAM_MEMBER_COUNT = TEAM.optional("member_count");
+
+    private final RowMapper<Team> byIndex = TEAM.mapper(row -> {
+        Team t = new Team();
+        t.setTeamId(row.getInt(TEAM_ID));
+        t.setName(row.getString(TEAM_NAME));
+        t.setProjectId(row.getInt(TEAM_PROJECT_ID));
+        t.setCreatedBy(row.getInt(TEAM_CREATED_BY));
+        t.setCreatedAt(row.getLocalDateTime(TEAM_CREATED_AT));
+
+        t.setProjectName(row.getString(TEAM_PROJECT_NAME));
+        t.setCreatorName(row.getString(TEAM_CREATOR_NAME));
+        if (row.has(TEAM_MEMBER_COUNT)) {
+            t.setMemberCount(row.getInt(TEAM_MEMBER_COUNT));
+        }
+
+        return t;
+    });
+
+    @Setup
+    public void setUp() throws SQLException {
+        String[] names = joined
+                ? new String[]{"team_id", "name", "project_id", "created_by", "created_at",
+                               "project_name", "creator_name", "member_count"}
+                : new String[]{"team_id", "name", "project_id", "created_by", "created_at"};
+        int[] types = {Types.INTEGER, Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP,
+                       Types.VARCHAR, Types.VARCHAR, Types.INTEGER};
+
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(names.length);
+        for (int i = 0; i < names.length; i++) {
+            metaData.setColumnName(i + 1, names[i]);
+            metaData.setColumnLabel(i + 1, names[i]);
+            metaData.setColumnType(i + 1, types[i]);
+        }
+
+        resultSet = RowSetProvider.newFactory().createCachedRowSet();
+        resultSet.setMetaData(metaData);
+        Timestamp createdAt = Timestamp.valueOf("2024-01-15 10:30:00");
+        for (int r = 0; r < rows; r++) {
+            resultSet.moveToInsertRow();
+            resultSet.updateInt(1, r + 1);
+            resultSet.updateString(2, "Team " + r);
+            resultSet.updateInt(3, r % 50 + 1);
+            resultSet.updateInt(4, r % 7 + 1);
+            resultSet.updateTimestamp(5, createdAt);
+            if (joined) {
+                resultSet.updateString(6, "Project " + r % 50);
+                resultSet.updateString(7, "Manager " + r % 7);
+                resultSet.updateInt(8, r % 9);
+            }
+            resultSet.insertRow();
+            resultSet.moveToCurrentRow();
+        }
+
+        resultSet.beforeFirst();
+        for (int rowNum = 0; resultSet.next(); rowNum++) {
+            Team expected = byName.mapRow(resultSet, rowNum);
+            Team actual = byIndex.mapRow(resultSet, rowNum);
+            if (!sameTeam(expected, actual)) {
+                throw new IllegalStateException("Mappers disagree on row " + rowNum);
+            }
+        }
+    }
+
+    @Benchmark
+    public void byName(Blackhole blackhole) throws SQLException {
+        map(byName, blackhole);
+    }
+
+    @Benchmark
+    public void byIndex(Blackhole blackhole) throws SQLException {
+        map(byIndex, blackhole);
+    }
+
+    private void map(RowMapper<Team> mapper, Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        for (int rowNum = 0; resultSet.next(); rowNum++) {
+            blackhole.consume(mapper.mapRow(resultSet, rowNum));
+        }
+    }
+
+    private static boolean sameTeam(Team a, Team b) {
+        return Objects.equals(a.getTeamId(), b.getTeamId())
+                && Objects.equals(a.getName(), b.getName())
+                && Objects.equals(a.getProjectId(), b.getProjectId())
+                && Objects.equals(a.getCreatedBy(), b.getCreatedBy())
+                && Objects.equals(a.getCreatedAt(), b.getCreatedAt())
+                && Objects.equals(a.getProjectName(), b.getProjectName())
+                && Objects.equals(a.getCreatorName(), b.getCreatorName())
+                && Objects.equals(a.getMemberCount(), b.getMemberCount());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RowMapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,101 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.dao.EmployeeSkillDao;
+import com.talentbridge.dao.UserDao;
+import com.talentbridge.model.EmployeeSkill;
+import com.talentbridge.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeSkillIndexTest {
+
+    private final List<User> users = new ArrayList<>();
+    private final List<EmployeeSkill> skills = new ArrayList<>();
+
+    private EmployeeSkillIndex index;
+
+    @BeforeEach
+    void setUp() {
+        UserDao userDao = mock(UserDao.class);
+        EmployeeSkillDao employeeSkillDao = mock(EmployeeSkillDao.class);
+        when(userDao.findByRole("EMPLOYEE")).thenAnswer(invocation -> new ArrayList<>(users));
+        when(userDao.findByIds(anyList())).thenAnswer(invocation -> users.stream()
+                .filter(u -> invocation.<List<Integer>>getArgument(0).contains(u.getUserId())).toList());
+        when(employeeSkillDao.findAll()).thenAnswer(invocation -> new ArrayList<>(skills));
+        when(employeeSkillDao.findByUserIds(anyList())).thenAnswer(invocation -> skills.stream()
+                .filter(es -> invocation.<List<Integer>>getArgument(0).contains(es.getUserId())).toList());
+
+        index = new EmployeeSkillIndex();
+        ReflectionTestUtils.setField(index, "userDao", userDao);
+        ReflectionTestUtils.setField(index, "employeeSkillDao", employeeSkillDao);
+
+        users.add(employee(1));
+        users.add(employee(2));
+        skills.add(new EmployeeSkill(1, 1, 10, 3, 2, null));
+        skills.add(new EmployeeSkill(2, 2, 10, 4, 5, 2023));
+        skills.add(new EmployeeSkill(3, 2, 20, 2, 1, null));
+    }
+
+    @Test
+    void reloadWithoutChangesKeepsTheVersion() {
+        index.reload();
+        long loaded = index.getVersion();
+
+        index.reload();
+
+        assertEquals(1, loaded);
+        assertEquals(loaded, index.getVersion());
+    }
+
+    @Test
+    void reloadPublishesChangedSkills() {
+        index.reload();
+        skills.add(new EmployeeSkill(4, 1, 20, 5, 3, null));
+
+        index.reload();
+
+        assertEquals(2, index.getVersion());
+        assertArrayEquals(new int[] {1, 2}, index.getUsersWithSkill(20));
+        assertEquals(5, index.getProfile(1).levelOf(20));
+    }
+
+    @Test
+    void refreshOfAnUnchangedUserKeepsTheVersion() {
+        index.reload();
+
+        index.refreshUser(1);
+
+        assertEquals(1, index.getVersion());
+    }
+
+    @Test
+    void refreshRemovesAUserFromProfilesAndPostingsTogether() {
+        index.reload();
+        users.get(1).setIsActive(false);
+
+        index.refreshUser(2);
+
+        assertEquals(2, index.getVersion());
+        assertNull(index.getProfile(2));
+        assertArrayEquals(new int[] {1}, index.getUsersWithSkill(10));
+        assertArrayEquals(new int[0], index.getUsersWithSkill(20));
+        assertEquals(List.of(1), index.findCandidates(List.of(10, 20)).stream()
+                .map(EmployeeSkillIndex.Profile::getUserId).toList());
+    }
+
+    private static User employee(int userId) {
+        return new User(userId, "user" + userId, "Employee " + userId, "employee" + userId + "@test",
+                "x", "EMPLOYEE", null, null, true);
+    }
+}
@@ -0,0 +1,146 @@
+package com.talentbridge.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HungarianSolverTest {
+
+    /** Same value as the allocation's cost of a column a project has not shortlisted. */
+    private static final double UNASSIGNABLE_COST = 1_000;
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void squareMatrixPicksTheCheapestPermutation() {
+        double[][] costs = {
+                {4, 1, 3},
+                {2, 0, 5},
+                {3, 2, 2}};
+
+        int[] assignment = HungarianSolver.solve(costs, new int[] {0, 1, 2}, 3);
+
+        assertArrayEquals(new int[] {1, 0, 2}, assignment);
+        assertEquals(5, cost(costs, new int[] {0, 1, 2}, assignment), EPSILON);
+    }
+
+    @Test
+    void fewerRowsThanColumnsLeavesTheExpensiveColumnsFree() {
+        double[][] costs = {
+                {9, 2, 7, 8},
+                {6, 4, 3, 7}};
+
+        int[] assignment = HungarianSolver.solve(costs, new int[] {0, 1}, 4);
+
+        assertArrayEquals(new int[] {1, 2}, assignment);
+    }
+
+    @Test
+    void moreRowsThanColumnsIsRejected() {
+        double[][] costs = {{1, 2}};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> HungarianSolver.solve(costs, new int[] {0, 0, 0}, 2));
+    }
+
+    @Test
+    void groupedRowsShareOneCostRowAndTakeDistinctColumns() {
+        // Project 0 needs two people, project 1 one
+        double[][] costs = {
+                {1, 2, 10, 10},
+                {1, 9, 3, 10}};
+        int[] rowGroup = {0, 0, 1};
+
+        int[] assignment = HungarianSolver.solve(costs, rowGroup, 4);
+
+        assertDistinct(assignment);
+        // Column 0 is cheapest for both; giving it to project 0 and column 2 to project 1 wins
+        assertEquals(6, cost(costs, rowGroup, assignment), EPSILON);
+    }
+
+    @Test
+    void paddingColumnsAreOnlyUsedWhenNoRealColumnIsLeft() {
+        // Each project shortlisted only some employees; the rest of its row is padding
+        double[][] costs = {
+                {10, 30, UNASSIGNABLE_COST, UNASSIGNABLE_COST},
+                {UNASSIGNABLE_COST, 20, UNASSIGNABLE_COST, UNASSIGNABLE_COST}};
+        int[] rowGroup = {0, 0, 1, 1};
+
+        int[] assignment = HungarianSolver.solve(costs, rowGroup, 4);
+
+        assertDistinct(assignment);
+        int realColumns = 0;
+        for (int row = 0; row < assignment.length; row++) {
+            if (costs[rowGroup[row]][assignment[row]] < UNASSIGNABLE_COST) {
+                realColumns++;
+            }
+        }
+        // Employee 1 goes to project 1; project 0 keeps employee 0 and both leftovers are padding
+        assertEquals(2, realColumns);
+        assertEquals(10 + 20 + 2 * UNASSIGNABLE_COST, cost(costs, rowGroup, assignment), EPSILON);
+    }
+
+    @Test
+    void matchesBruteForceOnRandomSmallMatrices() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 500; trial++) {
+            int cols = 1 + random.nextInt(6);
+            int rows = 1 + random.nextInt(cols);
+            int groups = 1 + random.nextInt(rows);
+            double[][] costs = new double[groups][cols];
+            for (double[] row : costs) {
+                for (int j = 0; j < cols; j++) {
+                    row[j] = random.nextInt(4) == 0 ? UNASSIGNABLE_COST : random.nextInt(101);
+                }
+            }
+            int[] rowGroup = new int[rows];
+            for (int i = 0; i < rows; i++) {
+                rowGroup[i] = i < groups ? i : random.nextInt(groups);
+            }
+
+            int[] assignment = HungarianSolver.solve(costs, rowGroup, cols);
+
+            assertEquals(rows, assignment.length);
+            assertDistinct(assignment);
+            assertEquals(bruteForce(costs, rowGroup, cols, 0, new boolean[cols]),
+                    cost(costs, rowGroup, assignment), EPSILON, "trial " + trial);
+        }
+    }
+
+    private static double bruteForce(double[][] costs, int[] rowGroup, int cols, int row, boolean[] taken) {
+        if (row == rowGroup.length) {
+            return 0;
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (int j = 0; j < cols; j++) {
+            if (!taken[j]) {
+                taken[j] = true;
+                best = Math.min(best, costs[rowGroup[row]][j] + bruteForce(costs, rowGroup, cols, row + 1, taken));
+                taken[j] = false;
+            }
+        }
+        return best;
+    }
+
+    private static double cost(double[][] costs, int[] rowGroup, int[] assignment) {
+        double total = 0;
+        for (int row = 0; row < assignment.length; row++) {
+            total += costs[rowGroup[row]][assignment[row]];
+        }
+        return total;
+    }
+
+    private static void assertDistinct(int[] assignment) {
+        Set<Integer> columns = new HashSet<>();
+        for (int col : assignment) {
+            assertTrue(columns.add(col), "column " + col + " assigned twice");
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class MatchRunCoordinatorTest {
+
+    private static final List<Object> KEY = List.of(1, 10, 0, "JAVA");
+
+    private MeterRegistry meterRegistry;
+    private MatchRunCoordinator coordinator;
+    private ExecutorService threads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coordinator = coordinator(2, 5_000);
+        threads = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void concurrentSyncRequestsShareOneRun() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        Future<String> leader = threads.submit(() -> coordinator.singleFlight(KEY, () -> {
+            runs.incrementAndGet();
+            await(release);
+            return new MatchRunCoordinator.Outcome<>(7, "ranked");
+        }, matchId -> fail("nothing to read back")));
+        awaitRunning(runs);
+
+        Future<String> follower = threads.submit(() -> coordinator.singleFlight(KEY,
+                () -> fail("follower must not run"), matchId -> fail("nothing to read back")));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertEquals("ranked", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("ranked", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void syncFailureReachesEveryWaiter() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        CustomException failure = new CustomException("boom");
+
+        Future<String> leader = threads.submit(() -> coordinator.<String>singleFlight(KEY, () -> {
+            runs.incrementAndGet();
+            await(release);
+            throw failure;
+        }, matchId -> fail("nothing to read back")));
+        awaitRunning(runs);
+
+        Future<String> follower = threads.submit(() -> coordinator.singleFlight(KEY,
+                () -> fail("follower must not run"), matchId -> fail("nothing to read back")));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertSame(failure, causeOf(leader));
+        assertSame(failure, causeOf(follower));
+    }
+
+    @Test
+    void syncRequestJoinsABackgroundRunAndReadsItsResults() throws Exception {
+        Integer matchId = coordinator.joinBackgroundRun(KEY, () -> 42, id -> { });
+
+        Future<String> sync = threads.submit(() -> coordinator.singleFlight(KEY,
+                () -> fail("sync request must not score again"), id -> "read back " + id));
+        awaitCoalesced(1);
+        assertFalse(sync.isDone());
+
+        coordinator.backgroundRunFinished(KEY, matchId, true);
+
+        assertEquals("read back 42", sync.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failedBackgroundRunFailsTheSyncRequestWaitingForIt() throws Exception {
+        Integer matchId = coordinator.joinBackgroundRun(KEY, () -> 42, id -> { });
+
+        Future<String> sync = threads.submit(() -> coordinator.singleFlight(KEY,
+                () -> fail("sync request must not score again"), id -> fail("failed run has no results")));
+        awaitCoalesced(1);
+
+        coordinator.backgroundRunFinished(KEY, matchId, false);
+
+        Throwable cause = causeOf(sync);
+        assertTrue(cause instanceof CustomException, String.valueOf(cause));
+        assertTrue(cause.getMessage().contains("42"), cause.getMessage());
+    }
+
+    @Test
+    void backgroundRequestReturnsTheSyncRunsMatchOnceCommitted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        Future<String> sync = threads.submit(() -> coordinator.singleFlight(KEY, () -> {
+            runs.incrementAndGet();
+            await(release);
+            return new MatchRunCoordinator.Outcome<>(9, "ranked");
+        }, id -> fail("nothing to read back")));
+        awaitRunning(runs);
+
+        Future<Integer> background = threads.submit(() -> coordinator.joinBackgroundRun(KEY,
+                () -> fail("background request must not create a match"),
+                id -> fail("background request must not launch")));
+        awaitCoalesced(1);
+        assertFalse(background.isDone());
+        release.countDown();
+
+        assertEquals("ranked", sync.get(5, TimeUnit.SECONDS));
+        assertEquals(9, background.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void backgroundRequestsShareTheQueuedRun() {
+        AtomicInteger launched = new AtomicInteger();
+
+        Integer first = coordinator.joinBackgroundRun(KEY, () -> 5, id -> launched.incrementAndGet());
+        Integer second = coordinator.joinBackgroundRun(KEY, () -> fail("must not create"), id -> fail("must not launch"));
+
+        assertEquals(5, first);
+        assertEquals(5, second);
+        assertEquals(1, launched.get());
+    }
+
+    @Test
+    void finishingAnotherMatchIdLeavesTheRunInFlight() {
+        coordinator.joinBackgroundRun(KEY, () -> 1, id -> { });
+
+        coordinator.backgroundRunFinished(KEY, 2, true);
+        assertEquals(1, coordinator.joinBackgroundRun(KEY, () -> fail("still in flight"), id -> { }));
+
+        coordinator.backgroundRunFinished(KEY, 1, true);
+        assertEquals(3, coordinator.joinBackgroundRun(KEY, () -> 3, id -> { }));
+    }
+
+    @Test
+    void failedLaunchIsNotShared() {
+        CustomException rejected = new CustomException("queue full");
+
+        assertSame(rejected, assertThrows(CustomException.class,
+                () -> coordinator.joinBackgroundRun(KEY, () -> 1, id -> { throw rejected; })));
+
+        assertEquals(2, coordinator.joinBackgroundRun(KEY, () -> 2, id -> { }));
+    }
+
+    @Test
+    void failedCreateIsNotShared() {
+        CustomException failure = new CustomException("insert failed");
+
+        assertSame(failure, assertThrows(CustomException.class,
+                () -> coordinator.joinBackgroundRun(KEY, () -> { throw failure; }, id -> fail("must not launch"))));
+
+        assertEquals(2, coordinator.joinBackgroundRun(KEY, () -> 2, id -> { }));
+    }
+
+    @Test
+    void differentKeysRunIndependently() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        Future<String> blocked = threads.submit(() -> coordinator.singleFlight(KEY, () -> {
+            runs.incrementAndGet();
+            await(release);
+            return new MatchRunCoordinator.Outcome<>(1, "first");
+        }, id -> fail("nothing to read back")));
+        awaitRunning(runs);
+
+        String other = coordinator.singleFlight(List.of(2), () -> new MatchRunCoordinator.Outcome<>(2, "second"),
+                id -> fail("nothing to read back"));
+        release.countDown();
+
+        assertEquals("second", other);
+        assertEquals("first", blocked.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void runIsTurnedAwayWhenNoPermitFreesUpInTime() throws Exception {
+        coordinator = coordinator(1, 50);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Integer> holder = threads.submit(() -> coordinator.withPermit(() -> {
+            holding.countDown();
+            await(release);
+            return 1;
+        }));
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        assertThrows(CustomException.class, () -> coordinator.withPermit(() -> 2));
+
+        release.countDown();
+        assertEquals(1, holder.get(5, TimeUnit.SECONDS));
+        assertEquals(3, coordinator.withPermit(() -> 3));
+    }
+
+    @Test
+    void permitIsReleasedWhenTheRunFails() {
+        coordinator = coordinator(1, 50);
+
+        assertThrows(IllegalStateException.class, () -> coordinator.withPermit(() -> {
+            throw new IllegalStateException("scoring failed");
+        }));
+
+        assertEquals(1, coordinator.withPermit(() -> 1));
+    }
+
+    private MatchRunCoordinator coordinator(int maxConcurrent, long acquireTimeoutMs) {
+        MatchRunCoordinator created = new MatchRunCoordinator(maxConcurrent);
+        ReflectionTestUtils.setField(created, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(created, "acquireTimeoutMs", acquireTimeoutMs);
+        return created;
+    }
+
+    private void awaitCoalesced(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("talentbridge.match.coalesced").count() < count) {
+            if (System.nanoTime() > deadline) {
+                fail("no request joined the run in flight");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitRunning(AtomicInteger runs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (runs.get() == 0) {
+            if (System.nanoTime() > deadline) {
+                fail("the run never started");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("test latch never released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Throwable causeOf(Future<?> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        return fail("expected the request to fail");
+    }
+}
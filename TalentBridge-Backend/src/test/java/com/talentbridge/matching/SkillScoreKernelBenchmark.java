@@ -0,0 +1,99 @@
+package com.talentbridge.matching;
+
+import com.talentbridge.model.ProjectSkillReq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar vs Vector API skill-score kernels over one block of candidates.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.talentbridge.matching.SkillScoreKernelBenchmark}, or from an IDE.
+ * Setup fails if the two kernels disagree on any candidate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class SkillScoreKernelBenchmark {
+
+    @Param({"1024"})
+    private int candidates;
+
+    @Param({"4", "12", "32"})
+    private int requirementCount;
+
+    private ProjectRequirements requirements;
+    private float[][] levels;
+    private float[] scores;
+
+    private final SkillScoreKernel scalar = new ScalarSkillScoreKernel();
+    private SkillScoreKernel vector;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<ProjectSkillReq> reqs = new ArrayList<>();
+        for (int i = 0; i < requirementCount; i++) {
+            ProjectSkillReq req = new ProjectSkillReq();
+            req.setSkillId(i + 1);
+            req.setDesiredLevel(1 + random.nextInt(5));
+            req.setWeight(random.nextBoolean() ? null : 0.5f + random.nextFloat() * 2);
+            reqs.add(req);
+        }
+        requirements = ProjectRequirements.of(reqs);
+
+        // Roughly half the candidates hold any given skill, at levels 1-5
+        levels = new float[requirementCount][candidates];
+        for (int i = 0; i < requirementCount; i++) {
+            for (int c = 0; c < candidates; c++) {
+                levels[i][c] = random.nextBoolean() ? 1 + random.nextInt(5) : 0;
+            }
+        }
+        scores = new float[candidates];
+
+        vector = SkillScoreKernel.create(true);
+        if (!(vector instanceof VectorSkillScoreKernel)) {
+            throw new IllegalStateException("jdk.incubator.vector is not available");
+        }
+
+        float[] expected = new float[candidates];
+        float[] actual = new float[candidates];
+        scalar.skillScores(requirements, levels, candidates, expected, 0);
+        vector.skillScores(requirements, levels, candidates, actual, 0);
+        for (int c = 0; c < candidates; c++) {
+            if (Float.compare(expected[c], actual[c]) != 0) {
+                throw new IllegalStateException("Kernels disagree for candidate " + c + ": "
+                        + expected[c] + " vs " + actual[c]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void scalar(Blackhole blackhole) {
+        scalar.skillScores(requirements, levels, candidates, scores, 0);
+        blackhole.consume(scores);
+    }
+
+    @Benchmark
+    public void vector(Blackhole blackhole) {
+        vector.skillScores(requirements, levels, candidates, scores, 0);
+        blackhole.consume(scores);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SkillScoreKernelBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,175 @@
+package com.talentbridge.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TeamCoverSolverTest {
+
+    private static final int BUDGET = 100_000;
+
+    @Test
+    void findsASmallerTeamThanGreedy() {
+        // Greedy takes the 4-requirement candidate first and then needs two more
+        long[][] masks = {
+                {0b000111},
+                {0b111000},
+                {0b011110}};
+        float[] scores = {50, 50, 90};
+
+        TeamCoverSolver.Result result = TeamCoverSolver.solve(masks, scores, 6, BUDGET);
+
+        assertEquals(2, result.getMembers().length);
+        assertArrayEquals(new long[] {0}, result.getUncovered());
+        assertTrue(result.isOptimal());
+    }
+
+    @Test
+    void reportsRequirementsNobodyCovers() {
+        long[][] masks = {
+                {0b0011},
+                {0b0001}};
+        float[] scores = {60, 80};
+
+        TeamCoverSolver.Result result = TeamCoverSolver.solve(masks, scores, 4, BUDGET);
+
+        assertArrayEquals(new int[] {0}, result.getMembers());
+        assertArrayEquals(new long[] {0b1100}, result.getUncovered());
+    }
+
+    @Test
+    void noCandidatesLeavesEveryRequirementUncovered() {
+        TeamCoverSolver.Result result = TeamCoverSolver.solve(new long[0][], new float[0], 3, BUDGET);
+
+        assertEquals(0, result.getMembers().length);
+        assertArrayEquals(new long[] {0b111}, result.getUncovered());
+    }
+
+    @Test
+    void equalCoverageKeepsTheBetterScoredCandidate() {
+        long[][] masks = {
+                {0b11},
+                {0b11},
+                {0b11}};
+        float[] scores = {40, 95, 70};
+
+        TeamCoverSolver.Result result = TeamCoverSolver.solve(masks, scores, 2, BUDGET);
+
+        assertArrayEquals(new int[] {1}, result.getMembers());
+    }
+
+    @Test
+    void equallySmallTeamsPreferTheHigherSummedScore() {
+        // Candidate 2 only covers a subset of candidate 0, but outscores it
+        long[][] masks = {
+                {0b011},
+                {0b100},
+                {0b001},
+                {0b110}};
+        float[] scores = {10, 10, 90, 80};
+
+        TeamCoverSolver.Result result = TeamCoverSolver.solve(masks, scores, 3, BUDGET);
+
+        assertArrayEquals(new int[] {2, 3}, result.getMembers());
+    }
+
+    @Test
+    void membersAreListedBestScoreFirst() {
+        long[][] masks = {
+                {0b001},
+                {0b010},
+                {0b100}};
+        float[] scores = {20, 90, 55};
+
+        TeamCoverSolver.Result result = TeamCoverSolver.solve(masks, scores, 3, BUDGET);
+
+        assertArrayEquals(new int[] {1, 2, 0}, result.getMembers());
+    }
+
+    @Test
+    void coversRequirementsBeyondTheFirstWord() {
+        int requirements = 70;
+        long[][] masks = {
+                {-1L, 0},
+                {0, (1L << 6) - 1},
+                {1L, 1L}};
+        float[] scores = {10, 10, 99};
+
+        TeamCoverSolver.Result result = TeamCoverSolver.solve(masks, scores, requirements, BUDGET);
+
+        assertEquals(2, TeamCoverSolver.words(requirements));
+        assertEquals(2, result.getMembers().length);
+        assertArrayEquals(new long[] {0, 0}, result.getUncovered());
+    }
+
+    @Test
+    void teamSizeMatchesBruteForceOnRandomInstances() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 300; trial++) {
+            int requirements = 1 + random.nextInt(10);
+            int candidates = random.nextInt(12);
+            long[][] masks = new long[candidates][1];
+            float[] scores = new float[candidates];
+            for (int c = 0; c < candidates; c++) {
+                for (int bit = 0; bit < requirements; bit++) {
+                    if (random.nextInt(4) == 0) {
+                        masks[c][0] |= 1L << bit;
+                    }
+                }
+                scores[c] = random.nextInt(101);
+            }
+
+            TeamCoverSolver.Result result = TeamCoverSolver.solve(masks, scores, requirements, BUDGET);
+
+            long coverable = 0;
+            for (long[] mask : masks) {
+                coverable |= mask[0];
+            }
+            long team = 0;
+            for (int member : result.getMembers()) {
+                team |= masks[member][0];
+            }
+            long full = (1L << requirements) - 1;
+            assertEquals(coverable, team, "trial " + trial);
+            assertEquals(full & ~coverable, result.getUncovered()[0], "trial " + trial);
+            int[] smallest = smallestTeam(masks, scores, coverable);
+            double teamScore = 0;
+            for (int member : result.getMembers()) {
+                teamScore += scores[member];
+            }
+            assertEquals(smallest[0], result.getMembers().length, "trial " + trial);
+            assertEquals(smallest[1], teamScore, "trial " + trial);
+            assertTrue(result.isOptimal());
+            for (int i = 1; i < result.getMembers().length; i++) {
+                assertFalse(scores[result.getMembers()[i]] > scores[result.getMembers()[i - 1]], "trial " + trial);
+            }
+        }
+    }
+
+    /** Size of the smallest team covering the target, and the best summed score at that size. */
+    private static int[] smallestTeam(long[][] masks, float[] scores, long target) {
+        int best = Integer.MAX_VALUE;
+        int bestScore = 0;
+        for (int subset = 0; subset < 1 << masks.length; subset++) {
+            long covered = 0;
+            int score = 0;
+            for (int c = 0; c < masks.length; c++) {
+                if ((subset & (1 << c)) != 0) {
+                    covered |= masks[c][0];
+                    score += (int) scores[c];
+                }
+            }
+            int size = Integer.bitCount(subset);
+            if (covered == target && (size < best || size == best && score > bestScore)) {
+                best = size;
+                bestScore = score;
+            }
+        }
+        return new int[] {best, bestScore};
+    }
+}
@@ -0,0 +1,104 @@
+package com.talentbridge.util;
+
+import com.talentbridge.exception.CustomException;
+import com.talentbridge.model.KeysetPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripKeepsNanoseconds() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123_456_789), 42);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(42, decoded.getId());
+    }
+
+    @Test
+    void roundTripKeepsTimesWithoutSeconds() {
+        // LocalDateTime.toString drops zero seconds and fractions
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 1, 1, 10, 0), 7);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(7, decoded.getId());
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new KeysetCursor(LocalDateTime.of(2023, 12, 31, 8, 30, 15, 999_999_999), 123456).encode();
+
+        assertFalse(encoded.contains("+") || encoded.contains("/") || encoded.contains("="), encoded);
+    }
+
+    @Test
+    void missingCursorMeansFirstPage() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+        assertNull(KeysetCursor.decode("   "));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor!", "%%%"})
+    void rejectsInvalidBase64(String cursor) {
+        assertThrows(CustomException.class, () -> KeysetCursor.decode(cursor));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"no-comma", "2024-01-01T10:00,abc", "yesterday,5", "2024-01-01T10:00,", ",5"})
+    void rejectsMalformedPositions(String raw) {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(CustomException.class, () -> KeysetCursor.decode(cursor));
+    }
+
+    @Test
+    void extraRowMeansNextPageFromTheLastItemShown() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0, 0, 500);
+        List<KeysetCursor> rows = List.of(
+                new KeysetCursor(now, 5),
+                new KeysetCursor(now.minusNanos(1), 4),
+                new KeysetCursor(now.minusSeconds(1), 3));
+
+        KeysetPage<KeysetCursor> page = KeysetCursor.page(rows, 2, row -> row);
+
+        assertEquals(rows.subList(0, 2), page.getItems());
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertEquals(now.minusNanos(1), next.getCreatedAt());
+        assertEquals(4, next.getId());
+    }
+
+    @Test
+    void exactlyFullPageIsTheLast() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<KeysetCursor> rows = List.of(new KeysetCursor(now, 2), new KeysetCursor(now, 1));
+
+        KeysetPage<KeysetCursor> page = KeysetCursor.page(rows, 2, row -> row);
+
+        assertEquals(rows, page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void emptyResultHasNoNextPage() {
+        KeysetPage<KeysetCursor> page = KeysetCursor.page(List.of(), 20, row -> row);
+
+        assertEquals(List.of(), page.getItems());
+        assertNull(page.getNextCursor());
+    }
+}